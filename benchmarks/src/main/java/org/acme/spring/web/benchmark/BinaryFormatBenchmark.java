@@ -0,0 +1,76 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.acme.spring.web.binary.BinaryWriter;
+import org.acme.spring.web.binary.CborWriter;
+import org.acme.spring.web.binary.SmileWriter;
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.acme.spring.web.entity.Title;
+import org.acme.spring.web.json.GreetingJsonWriter;
+import org.acme.spring.web.json.HelloParamCheatedWithQueryParamJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Encoding of the response bodies of {@code hello} and the cheated echo routes in each {@link #format} the endpoints
+ * negotiate, with the writers the application registers for them: the pre-encoded JSON writers and the Jackson
+ * {@link BinaryWriter}s. The payload sizes are printed once per trial, JMH has no column for them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmark {
+    @Param({ "json", "cbor", "smile" })
+    String format;
+
+    GreetingJsonWriter greetingWriter;
+    HelloParamCheatedWithQueryParamJsonWriter paramWriter;
+    BinaryWriter binaryWriter;
+    Greeting greeting;
+    HelloParamCheatedWithQueryParam param;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        greetingWriter = new GreetingJsonWriter();
+        paramWriter = new HelloParamCheatedWithQueryParamJsonWriter();
+        binaryWriter = switch (format) {
+            case "cbor" -> new CborWriter(new ObjectMapper());
+            case "smile" -> new SmileWriter(new ObjectMapper());
+            default -> null;
+        };
+        greeting = new Greeting("hello bench");
+        param = new HelloParamCheatedWithQueryParam();
+        param.setTitle(Title.MR);
+        param.setName("bench");
+        param.setSuffix("jr");
+        System.out.printf("%n%s payload: greeting %d bytes, param %d bytes%n", format, greeting().length, param().length);
+    }
+
+    @Benchmark
+    public byte[] greeting() throws IOException {
+        return binaryWriter == null ? greetingWriter.toJson(greeting) : binaryWriter.encode(greeting);
+    }
+
+    @Benchmark
+    public byte[] param() throws IOException {
+        return binaryWriter == null ? paramWriter.toJson(param) : binaryWriter.encode(param);
+    }
+}
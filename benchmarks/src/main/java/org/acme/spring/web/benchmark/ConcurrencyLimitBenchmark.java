@@ -0,0 +1,55 @@
+package org.acme.spring.web.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.acme.spring.web.limit.ConcurrencyLimiter;
+import org.acme.spring.web.limit.GradientLimit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 16 threads admitting and releasing requests of one endpoint at once, the path every request to a
+ * {@code @ConcurrencyLimited} route takes when the limits are enabled. With a {@code window} of 0 every release tries
+ * to update the {@link GradientLimit}, with the default of 10ms one release per window does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ConcurrencyLimitBenchmark {
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({ "0", "10" })
+    long windowMillis;
+
+    ConcurrencyLimiter limiter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new ConcurrencyLimiter(new GradientLimit(20, 2, 200, 1.5, 0.2, TimeUnit.MILLISECONDS.toNanos(windowMillis)));
+    }
+
+    @Benchmark
+    public boolean admitAndRelease() {
+        if (!limiter.tryAcquire()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        limiter.release(now - RTT, now);
+        return true;
+    }
+}
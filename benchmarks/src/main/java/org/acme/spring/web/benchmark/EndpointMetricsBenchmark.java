@@ -0,0 +1,91 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code hello} and validated routes of {@link EndpointStackBenchmark} with {@code endpoint.metrics.enabled} off
+ * and on, the price of timing every phase and counting the allocations of every request.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndpointMetricsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        @Param({ "false", "true" })
+        String enabled;
+
+        QuarkusApp app;
+
+        @Setup(Level.Trial)
+        public void start() {
+            System.setProperty("endpoint.metrics.enabled", enabled);
+            app = QuarkusApp.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            QuarkusApp.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        HttpConnection connection;
+
+        @Setup(Level.Trial)
+        public void connect(Application application) throws IOException {
+            connection = application.app.connect();
+            for (byte[] request : new byte[][] { EndpointStackBenchmark.SPRING_HELLO, EndpointStackBenchmark.SPRING_ECHO_VALIDATED,
+                    EndpointStackBenchmark.JAKARTA_HELLO, EndpointStackBenchmark.JAKARTA_ECHO_VALIDATED }) {
+                int status = connection.exchange(request);
+                if (status != 200) {
+                    throw new IllegalStateException("sanity check failed with " + status + ": " + connection.lastBody());
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int springHello(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.SPRING_HELLO);
+    }
+
+    @Benchmark
+    public int springHelloWithCheatedParamValidated(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.SPRING_ECHO_VALIDATED);
+    }
+
+    @Benchmark
+    public int jakartaHello(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.JAKARTA_HELLO);
+    }
+
+    @Benchmark
+    public int jakartaHelloWithCheatedParamValidated(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.JAKARTA_ECHO_VALIDATED);
+    }
+}
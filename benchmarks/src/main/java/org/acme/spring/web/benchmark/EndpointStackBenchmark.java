@@ -0,0 +1,109 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Drives the same three routes through the Spring-Web binding ({@code GreetingController} and
+ * {@code GreetingBodyController}) and the Jakarta REST binding ({@code GreetingResource}).
+ * <p>
+ * {@link Mode#Throughput} reports ops/s, {@link Mode#SampleTime} the latency percentiles (p0.99) and
+ * {@code -prof gc} the allocation rate per request ({@code gc.alloc.rate.norm}), server threads included.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndpointStackBenchmark {
+    static final String VALID_QUERY = "?title=MR&name=bench&suffix=jr";
+    static final String HELLO_PARAM_JSON = "{\"title\":\"MR\",\"name\":\"bench\",\"suffix\":\"jr\"}";
+
+    static final byte[] SPRING_HELLO = HttpConnection.get("/greeting?name=bench");
+    static final byte[] SPRING_ECHO_PARAM = HttpConnection.get("/echo-param", HELLO_PARAM_JSON);
+    static final byte[] SPRING_ECHO_VALIDATED = HttpConnection.get("/echo-param-cheated-with-query-param-with-validations" + VALID_QUERY);
+
+    static final byte[] JAKARTA_HELLO = HttpConnection.get("/jakartars/greeting?name=bench");
+    static final byte[] JAKARTA_ECHO_PARAM = HttpConnection.get("/jakartars/echo-param", HELLO_PARAM_JSON);
+    static final byte[] JAKARTA_ECHO_VALIDATED = HttpConnection.get("/jakartars/echo-param-with-query-param-with-validations" + VALID_QUERY);
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        QuarkusApp app;
+
+        @Setup(Level.Trial)
+        public void start() {
+            app = QuarkusApp.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            QuarkusApp.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        HttpConnection connection;
+
+        @Setup(Level.Trial)
+        public void connect(Application application) throws IOException {
+            connection = application.app.connect();
+            for (byte[] request : new byte[][] { SPRING_HELLO, SPRING_ECHO_PARAM, SPRING_ECHO_VALIDATED,
+                    JAKARTA_HELLO, JAKARTA_ECHO_PARAM, JAKARTA_ECHO_VALIDATED }) {
+                int status = connection.exchange(request);
+                if (status != 200) {
+                    throw new IllegalStateException("sanity check failed with " + status + ": " + connection.lastBody());
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int springHello(Client client) throws IOException {
+        return client.connection.exchange(SPRING_HELLO);
+    }
+
+    @Benchmark
+    public int springHelloWithParam(Client client) throws IOException {
+        return client.connection.exchange(SPRING_ECHO_PARAM);
+    }
+
+    @Benchmark
+    public int springHelloWithCheatedParamValidated(Client client) throws IOException {
+        return client.connection.exchange(SPRING_ECHO_VALIDATED);
+    }
+
+    @Benchmark
+    public int jakartaHello(Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_HELLO);
+    }
+
+    @Benchmark
+    public int jakartaHelloWithParam(Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_ECHO_PARAM);
+    }
+
+    @Benchmark
+    public int jakartaHelloWithCheatedParamValidated(Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_ECHO_VALIDATED);
+    }
+}
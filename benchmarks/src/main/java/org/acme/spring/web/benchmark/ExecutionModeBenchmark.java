@@ -0,0 +1,86 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The validated echo routes with {@code execution.group.validated} set to each {@link #mode}, under the load of 32
+ * concurrent connections so that the worker pool and the event loops actually compete.
+ * <p>
+ * JMH forks a JVM per {@link #mode}, each one boots the application with that mode. The pinning of virtual threads
+ * shows up on stdout thanks to {@code -Djdk.tracePinnedThreads=short}.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+@Threads(32)
+public class ExecutionModeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        @Param({ "event-loop", "worker", "virtual-thread" })
+        String mode;
+
+        QuarkusApp app;
+
+        @Setup(Level.Trial)
+        public void start() {
+            System.setProperty("execution.group.validated", mode);
+            app = QuarkusApp.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            QuarkusApp.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        HttpConnection connection;
+
+        @Setup(Level.Trial)
+        public void connect(Application application) throws IOException {
+            connection = application.app.connect();
+            for (byte[] request : new byte[][] { EndpointStackBenchmark.SPRING_ECHO_VALIDATED,
+                    EndpointStackBenchmark.JAKARTA_ECHO_VALIDATED }) {
+                int status = connection.exchange(request);
+                if (status != 200) {
+                    throw new IllegalStateException("sanity check failed with " + status + ": " + connection.lastBody());
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int springHelloWithCheatedParamValidated(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.SPRING_ECHO_VALIDATED);
+    }
+
+    @Benchmark
+    public int jakartaHelloWithCheatedParamValidated(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.JAKARTA_ECHO_VALIDATED);
+    }
+}
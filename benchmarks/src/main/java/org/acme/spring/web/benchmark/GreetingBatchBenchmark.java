@@ -0,0 +1,64 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@value #NAMES} greetings fetched one request at a time against a single batch request, reported per greeting.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GreetingBatchBenchmark {
+    static final int NAMES = 100;
+
+    static final byte[] SPRING_BATCH = HttpConnection.post("/greeting/batch", "application/json",
+            IntStream.range(0, NAMES).mapToObj(i -> "\"bench\"").collect(Collectors.joining(",", "[", "]")));
+    static final byte[] JAKARTA_BATCH = HttpConnection.post("/jakartars/greeting/batch", "application/json",
+            IntStream.range(0, NAMES).mapToObj(i -> "\"bench\"").collect(Collectors.joining(",", "[", "]")));
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    public int springSingle(EndpointStackBenchmark.Client client) throws IOException {
+        int status = 0;
+        for (int i = 0; i < NAMES; i++) {
+            status += client.connection.exchange(EndpointStackBenchmark.SPRING_HELLO);
+        }
+        return status;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    public int springBatch(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(SPRING_BATCH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    public int jakartaSingle(EndpointStackBenchmark.Client client) throws IOException {
+        int status = 0;
+        for (int i = 0; i < NAMES; i++) {
+            status += client.connection.exchange(EndpointStackBenchmark.JAKARTA_HELLO);
+        }
+        return status;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    public int jakartaBatch(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_BATCH);
+    }
+}
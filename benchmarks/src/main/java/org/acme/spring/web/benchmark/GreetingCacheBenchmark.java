@@ -0,0 +1,47 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code hello} routes of {@link EndpointStackBenchmark} with {@code greeting.cache.enabled}, once answered from
+ * the cache and once revalidated with {@code If-None-Match}, which ends in a 304 without a body. After the first
+ * request every call is a hit, so the difference to {@link EndpointStackBenchmark} is the saving of a hit.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dgreeting.cache.enabled=true")
+public class GreetingCacheBenchmark {
+    static final byte[] SPRING_NOT_MODIFIED = HttpConnection.conditionalGet("/greeting?name=bench", "*");
+    static final byte[] JAKARTA_NOT_MODIFIED = HttpConnection.conditionalGet("/jakartars/greeting?name=bench", "*");
+
+    @Benchmark
+    public int springCached(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.SPRING_HELLO);
+    }
+
+    @Benchmark
+    public int springNotModified(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(SPRING_NOT_MODIFIED);
+    }
+
+    @Benchmark
+    public int jakartaCached(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.JAKARTA_HELLO);
+    }
+
+    @Benchmark
+    public int jakartaNotModified(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_NOT_MODIFIED);
+    }
+}
@@ -0,0 +1,115 @@
+package org.acme.spring.web.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.json.GreetingJsonWriter;
+import org.acme.spring.web.phrase.GreetingPhrases;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Greeting a name and encoding the greeting as JSON, by concatenation and {@link GreetingJsonWriter#encode(Greeting)}
+ * as every request did before {@link GreetingPhrases}, and looked up in the phrases: a name of the startup table, a
+ * name learned by the hot set, an absent name and a flood of names requested once each, which the hot set must not
+ * make more expensive than concatenating.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GreetingPhraseBenchmark {
+    private static final int UNIQUE_NAMES = 1 << 20;
+
+    Optional<String> tableName;
+    Optional<String> hotName;
+    GreetingPhrases phrases;
+    GreetingJsonWriter writer;
+    String[] uniqueNames;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // not constants, the JIT must not fold the concatenation
+        tableName = Optional.of(new String("bench"));
+        hotName = Optional.of(new String("popular"));
+        phrases = new GreetingPhrases(List.of("bench"), 1024);
+        phrases.greet(hotName.get());
+        phrases.greet(hotName.get());
+        writer = new GreetingJsonWriter(phrases);
+        uniqueNames = new String[UNIQUE_NAMES];
+        for (int i = 0; i < UNIQUE_NAMES; i++) {
+            uniqueNames[i] = "visitor-" + i;
+        }
+    }
+
+    @Benchmark
+    public Greeting concatenated() {
+        return new Greeting("hello " + tableName.orElse("?????"));
+    }
+
+    @Benchmark
+    public Greeting concatenatedAbsent() {
+        return new Greeting("hello " + Optional.<String> empty().orElse("?????"));
+    }
+
+    @Benchmark
+    public Greeting table() {
+        return phrases.greet(tableName.orElse(null));
+    }
+
+    @Benchmark
+    public Greeting hotSet() {
+        return phrases.greet(hotName.orElse(null));
+    }
+
+    @Benchmark
+    public Greeting concatenatedUnique() {
+        return new Greeting("hello " + uniqueName());
+    }
+
+    @Benchmark
+    public Greeting uniqueNames() {
+        return phrases.greet(uniqueName());
+    }
+
+    @Benchmark
+    public Greeting absent() {
+        return phrases.greet(null);
+    }
+
+    @Benchmark
+    public byte[] concatenatedJson() {
+        return GreetingJsonWriter.encode(new Greeting("hello " + tableName.orElse("?????")));
+    }
+
+    @Benchmark
+    public byte[] tableJson() {
+        return writer.toJson(phrases.greet(tableName.orElse(null)));
+    }
+
+    @Benchmark
+    public byte[] hotSetJson() {
+        return writer.toJson(phrases.greet(hotName.orElse(null)));
+    }
+
+    /**
+     * The names repeat after a million requests, by then the hot set has long forgotten them.
+     */
+    private String uniqueName() {
+        return uniqueNames[next++ & UNIQUE_NAMES - 1];
+    }
+}
@@ -0,0 +1,206 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal keep-alive HTTP/1.1 client working on pre-encoded requests.
+ * <p>
+ * {@code java.net.http.HttpClient} allocates several kilobytes per exchange, which would drown the allocation rate
+ * of the server side we actually want to measure with {@code -prof gc}. This client allocates nothing per request
+ * and only understands what the application answers: a status line, headers and a {@code content-length} or chunked
+ * body.
+ */
+public final class HttpConnection implements Closeable {
+    private static final int MAX_BODY = 64 * 1024;
+    private static final byte[] CONTENT_LENGTH = "content-length:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CHUNKED = "transfer-encoding: chunked".getBytes(StandardCharsets.US_ASCII);
+    private static final int CHUNKED_LENGTH = -1;
+
+    private final Socket socket;
+    private final OutputStream out;
+    private final InputStream in;
+    private final byte[] body = new byte[MAX_BODY];
+    private final byte[] line = new byte[1024];
+    private int bodyLength;
+
+    HttpConnection(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        out = socket.getOutputStream();
+        in = new BufferedInputStream(socket.getInputStream(), 16 * 1024);
+    }
+
+    public static byte[] get(String pathAndQuery) {
+        return ("GET " + pathAndQuery + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Accept: application/json\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static byte[] conditionalGet(String pathAndQuery, String ifNoneMatch) {
+        return ("GET " + pathAndQuery + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Accept: application/json\r\n"
+                + "If-None-Match: " + ifNoneMatch + "\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static byte[] get(String pathAndQuery, String jsonBody) {
+        byte[] payload = jsonBody.getBytes(StandardCharsets.UTF_8);
+        return ("GET " + pathAndQuery + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Accept: application/json\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Content-Length: " + payload.length + "\r\n"
+                + "\r\n" + jsonBody).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static byte[] post(String pathAndQuery, String contentType, String body) {
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        return ("POST " + pathAndQuery + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Content-Type: " + contentType + "\r\n"
+                + "Content-Length: " + payload.length + "\r\n"
+                + "\r\n" + body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Sends the pre-encoded request and reads the complete response.
+     *
+     * @return the HTTP status code
+     */
+    public int exchange(byte[] request) throws IOException {
+        out.write(request);
+        out.flush();
+        int status = readStatusLine();
+        int contentLength = readHeaders();
+        bodyLength = 0;
+        if (contentLength == CHUNKED_LENGTH) {
+            int chunkLength;
+            while ((chunkLength = readChunkLength()) > 0) {
+                readFully(chunkLength);
+                skipLine();
+            }
+            // no trailers, just the empty line
+            skipLine();
+            return status;
+        }
+        readFully(contentLength);
+        return status;
+    }
+
+    /**
+     * @return the body of the last response, decoded; meant for sanity checks outside the measured code
+     */
+    public String lastBody() {
+        return new String(body, 0, bodyLength, StandardCharsets.UTF_8);
+    }
+
+    private int readStatusLine() throws IOException {
+        // HTTP/1.1 200 OK
+        for (int i = 0; i < 9; i++) {
+            read();
+        }
+        int status = (read() - '0') * 100 + (read() - '0') * 10 + (read() - '0');
+        skipLine();
+        return status;
+    }
+
+    private int readHeaders() throws IOException {
+        int contentLength = 0;
+        int length;
+        while ((length = readLine()) > 0) {
+            if (length == CHUNKED.length && startsWithIgnoreCase(CHUNKED)) {
+                contentLength = CHUNKED_LENGTH;
+            } else if (length > CONTENT_LENGTH.length && startsWithIgnoreCase(CONTENT_LENGTH)) {
+                contentLength = 0;
+                for (int i = CONTENT_LENGTH.length; i < length; i++) {
+                    byte c = line[i];
+                    if (c >= '0' && c <= '9') {
+                        contentLength = contentLength * 10 + (c - '0');
+                    }
+                }
+            }
+        }
+        return contentLength;
+    }
+
+    /**
+     * Reads one header line without its line terminator into {@link #line}.
+     *
+     * @return the length of the line, {@code 0} for the empty line closing the header section
+     */
+    private int readLine() throws IOException {
+        int length = 0;
+        int c;
+        while ((c = read()) != '\n') {
+            if (c != '\r' && length < line.length) {
+                line[length++] = (byte) c;
+            }
+        }
+        return length;
+    }
+
+    private int readChunkLength() throws IOException {
+        int length = readLine();
+        int chunkLength = 0;
+        for (int i = 0; i < length && line[i] != ';'; i++) {
+            chunkLength = chunkLength * 16 + Character.digit(line[i], 16);
+        }
+        return chunkLength;
+    }
+
+    private boolean startsWithIgnoreCase(byte[] lowerCasePrefix) {
+        for (int i = 0; i < lowerCasePrefix.length; i++) {
+            if ((line[i] | 0x20) != lowerCasePrefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipLine() throws IOException {
+        while (read() != '\n') {
+            // skip
+        }
+    }
+
+    /**
+     * Appends {@code length} bytes to the body read so far.
+     */
+    private void readFully(int length) throws IOException {
+        int offset = bodyLength;
+        int end = bodyLength + length;
+        if (end > MAX_BODY) {
+            throw new IOException("response body too large: " + end);
+        }
+        while (offset < end) {
+            int n = in.read(body, offset, end - offset);
+            if (n < 0) {
+                throw new EOFException();
+            }
+            offset += n;
+        }
+        bodyLength = end;
+    }
+
+    private int read() throws IOException {
+        int c = in.read();
+        if (c < 0) {
+            throw new EOFException();
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,118 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code hello} routes under the default ({@code prod}) and the {@code high-throughput} profile, with 16
+ * concurrent clients each opening a new connection per request, keeping one HTTP/1.1 connection alive, or sharing
+ * one h2c connection through {@link HttpClient}. The HTTP/2 client is the JDK's, so its throughput includes the
+ * client's own overhead, which is the same under both profiles.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class HttpTuningBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        @Param({ "prod", "high-throughput" })
+        String profile;
+
+        QuarkusApp app;
+        HttpClient http2;
+        HttpRequest springHello;
+        HttpRequest jakartaHello;
+
+        @Setup(Level.Trial)
+        public void start() throws IOException, InterruptedException {
+            System.setProperty("quarkus.profile", profile);
+            app = QuarkusApp.start();
+            http2 = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+            springHello = HttpRequest.newBuilder(URI.create("http://localhost:" + app.port() + "/greeting?name=bench")).build();
+            jakartaHello = HttpRequest.newBuilder(URI.create("http://localhost:" + app.port() + "/jakartars/greeting?name=bench")).build();
+            // the first request upgrades the connection to h2c, the later ones share it
+            HttpResponse<Void> response = http2.send(springHello, HttpResponse.BodyHandlers.discarding());
+            if (response.version() != HttpClient.Version.HTTP_2) {
+                throw new IllegalStateException("sanity check failed, no h2c but " + response.version());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            http2.close();
+            QuarkusApp.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        HttpConnection connection;
+
+        @Setup(Level.Trial)
+        public void connect(Application application) throws IOException {
+            connection = application.app.connect();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int springShortConnection(Application application) throws IOException {
+        try (HttpConnection connection = application.app.connect()) {
+            return connection.exchange(EndpointStackBenchmark.SPRING_HELLO);
+        }
+    }
+
+    @Benchmark
+    public int jakartaShortConnection(Application application) throws IOException {
+        try (HttpConnection connection = application.app.connect()) {
+            return connection.exchange(EndpointStackBenchmark.JAKARTA_HELLO);
+        }
+    }
+
+    @Benchmark
+    public int springKeepAlive(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.SPRING_HELLO);
+    }
+
+    @Benchmark
+    public int jakartaKeepAlive(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.JAKARTA_HELLO);
+    }
+
+    @Benchmark
+    public int springHttp2(Application application) throws IOException, InterruptedException {
+        return application.http2.send(application.springHello, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int jakartaHttp2(Application application) throws IOException, InterruptedException {
+        return application.http2.send(application.jakartaHello, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,73 @@
+package org.acme.spring.web.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.acme.spring.web.entity.Title;
+import org.acme.spring.web.json.GreetingJsonWriter;
+import org.acme.spring.web.json.HelloParamCheatedWithQueryParamJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serialization of the response bodies of {@code hello} and the cheated echo routes into the bytes of the response,
+ * with Jackson and with the pre-encoded writers the application registers for them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonWriterBenchmark {
+    ObjectMapper objectMapper;
+    GreetingJsonWriter greetingWriter;
+    HelloParamCheatedWithQueryParamJsonWriter paramWriter;
+    Greeting greeting;
+    HelloParamCheatedWithQueryParam param;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        greetingWriter = new GreetingJsonWriter();
+        paramWriter = new HelloParamCheatedWithQueryParamJsonWriter();
+        greeting = new Greeting("hello bench");
+        param = new HelloParamCheatedWithQueryParam();
+        param.setTitle(Title.MR);
+        param.setName("bench");
+        param.setSuffix("jr");
+    }
+
+    @Benchmark
+    public byte[] jacksonGreeting() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(greeting);
+    }
+
+    @Benchmark
+    public byte[] preEncodedGreeting() {
+        return greetingWriter.toJson(greeting);
+    }
+
+    @Benchmark
+    public byte[] jacksonParam() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(param);
+    }
+
+    @Benchmark
+    public byte[] preEncodedParam() {
+        return paramWriter.toJson(param);
+    }
+}
@@ -0,0 +1,109 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.phrase.GreetingPhrases;
+import org.acme.spring.web.phrase.PhraseStore;
+import org.acme.spring.web.phrase.PhraseStoreWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups in a {@link PhraseStore} of {@code entries} personalised phrases, written to a temporary file once per
+ * trial: finding a stored name, missing an unknown one, and greeting a stored name through {@link GreetingPhrases}
+ * without hot set, which decodes the phrase and renders its JSON. The names are drawn at random from the whole store,
+ * so most lookups touch pages of the file that no recent lookup touched.
+ * <p>
+ * The resident memory of the JVM is printed after writing the store and at the end of the trial, split into the
+ * anonymous memory, the heap among it, and the pages of mapped files, the store among them. JMH has no column for it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class PhraseStoreBenchmark {
+    private static final int KEYS = 1 << 16;
+
+    @Param({ "10000000" })
+    int entries;
+
+    Path file;
+    PhraseStore store;
+    GreetingPhrases phrases;
+    String[] hits;
+    String[] misses;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("phrases", ".store");
+        try (PhraseStoreWriter writer = new PhraseStoreWriter(file, entries)) {
+            for (int i = 0; i < entries; i++) {
+                writer.add("name-" + i, "bonjour name-" + i);
+            }
+        }
+        store = PhraseStore.open(file);
+        phrases = new GreetingPhrases(List.of(), Optional.of(store), 0);
+        SplittableRandom random = new SplittableRandom(42);
+        hits = new String[KEYS];
+        misses = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            hits[i] = "name-" + random.nextInt(entries);
+            misses[i] = "other-" + random.nextInt(entries);
+        }
+        printMemory("after writing " + Files.size(file) / (1024 * 1024) + " MB");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        printMemory("after lookups");
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public long findHit() {
+        return store.find(hits[next++ & (KEYS - 1)]);
+    }
+
+    @Benchmark
+    public long findMiss() {
+        return store.find(misses[next++ & (KEYS - 1)]);
+    }
+
+    @Benchmark
+    public Greeting greetHit() {
+        return phrases.greet(hits[next++ & (KEYS - 1)]);
+    }
+
+    private static void printMemory(String when) throws IOException {
+        System.gc();
+        long heap = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        StringBuilder status = new StringBuilder();
+        for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+            if (line.startsWith("VmRSS") || line.startsWith("RssAnon") || line.startsWith("RssFile")) {
+                status.append(", ").append(line.replaceAll("\\s+", " "));
+            }
+        }
+        System.out.printf("%nmemory %s: heap used %d MB%s%n", when, heap / (1024 * 1024), status);
+    }
+}
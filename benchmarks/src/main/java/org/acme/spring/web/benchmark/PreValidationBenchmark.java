@@ -0,0 +1,95 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The validated routes of {@link EndpointStackBenchmark} with invalid query parameters, an unknown {@code title} and
+ * a missing {@code name}, with {@code pre-validation.enabled} off and on: Hibernate Validator and its exception
+ * against the filter answering from the raw query string.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreValidationBenchmark {
+    static final byte[] SPRING_UNKNOWN_TITLE = HttpConnection.get("/echo-param-cheated-with-query-param-with-validations?title=DR&name=bench");
+    static final byte[] SPRING_MISSING_NAME = HttpConnection.get("/echo-param-cheated-with-query-param-with-validations?title=MR");
+    static final byte[] JAKARTA_UNKNOWN_TITLE = HttpConnection.get("/jakartars/echo-param-with-query-param-with-validations?title=DR&name=bench");
+    static final byte[] JAKARTA_MISSING_NAME = HttpConnection.get("/jakartars/echo-param-with-query-param-with-validations?title=MR");
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        @Param({ "false", "true" })
+        String enabled;
+
+        QuarkusApp app;
+
+        @Setup(Level.Trial)
+        public void start() {
+            System.setProperty("pre-validation.enabled", enabled);
+            app = QuarkusApp.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            QuarkusApp.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        HttpConnection connection;
+
+        @Setup(Level.Trial)
+        public void connect(Application application) throws IOException {
+            connection = application.app.connect();
+            for (byte[] request : new byte[][] { SPRING_UNKNOWN_TITLE, SPRING_MISSING_NAME, JAKARTA_UNKNOWN_TITLE, JAKARTA_MISSING_NAME }) {
+                int status = connection.exchange(request);
+                if (status != 400) {
+                    throw new IllegalStateException("sanity check failed with " + status + ": " + connection.lastBody());
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int springUnknownTitle(Client client) throws IOException {
+        return client.connection.exchange(SPRING_UNKNOWN_TITLE);
+    }
+
+    @Benchmark
+    public int springMissingName(Client client) throws IOException {
+        return client.connection.exchange(SPRING_MISSING_NAME);
+    }
+
+    @Benchmark
+    public int jakartaUnknownTitle(Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_UNKNOWN_TITLE);
+    }
+
+    @Benchmark
+    public int jakartaMissingName(Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_MISSING_NAME);
+    }
+}
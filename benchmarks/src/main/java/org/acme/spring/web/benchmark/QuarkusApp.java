@@ -0,0 +1,129 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Boots the packaged application ({@code target/quarkus-app}) inside the benchmark JVM, so that {@code -prof gc}
+ * accounts for the allocations of the server threads as well as the ones of the benchmark threads.
+ * <p>
+ * {@code benchmarks.jar} references {@code ../../target/quarkus-app/quarkus-run.jar} in its manifest class path, so
+ * the application is started through its regular entry point, exactly like {@code java -jar quarkus-run.jar} would
+ * do it, once per forked JVM.
+ */
+public final class QuarkusApp {
+    public static final String PORT_PROPERTY = "benchmark.port";
+
+    private static final String ENTRY_POINT = "io.quarkus.bootstrap.runner.QuarkusEntryPoint";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static QuarkusApp running;
+
+    private final int port;
+    private final Thread mainThread;
+
+    private QuarkusApp(int port, Thread mainThread) {
+        this.port = port;
+        this.mainThread = mainThread;
+    }
+
+    public static synchronized QuarkusApp start() {
+        if (running == null) {
+            running = boot();
+        }
+        return running;
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public HttpConnection connect() throws IOException {
+        return new HttpConnection("localhost", port);
+    }
+
+    public static synchronized void stop() {
+        if (running == null) {
+            return;
+        }
+        try {
+            ClassLoader appClassLoader = running.mainThread.getContextClassLoader();
+            appClassLoader.loadClass("io.quarkus.runtime.Quarkus").getMethod("asyncExit").invoke(null);
+            running.mainThread.join(STARTUP_TIMEOUT.toMillis());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("could not stop application", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = null;
+        }
+    }
+
+    private static QuarkusApp boot() {
+        Class<?> entryPoint;
+        try {
+            entryPoint = Class.forName(ENTRY_POINT);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("target/quarkus-app/quarkus-run.jar not found, package the application with ./mvnw package first", e);
+        }
+        int port = Integer.getInteger(PORT_PROPERTY, 8089);
+        System.setProperty("quarkus.http.port", Integer.toString(port));
+        System.setProperty("quarkus.log.level", "WARN");
+
+        Thread mainThread = new Thread(() -> {
+            try {
+                entryPoint.getMethod("main", String[].class).invoke(null, (Object) new String[0]);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("application failed", e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }, "quarkus-main");
+        mainThread.setDaemon(true);
+        mainThread.start();
+
+        awaitPort(port, mainThread);
+        keepJvmAliveOnExit(mainThread.getContextClassLoader());
+        return new QuarkusApp(port, mainThread);
+    }
+
+    /**
+     * By default the application calls {@link System#exit(int)} once it is stopped, which would tear down the forked
+     * benchmark JVM before JMH has collected its results.
+     */
+    private static void keepJvmAliveOnExit(ClassLoader appClassLoader) {
+        try {
+            Consumer<Integer> ignore = exitCode -> {
+            };
+            appClassLoader.loadClass("io.quarkus.runtime.ApplicationLifecycleManager")
+                    .getMethod("setDefaultExitCodeHandler", Consumer.class)
+                    .invoke(null, ignore);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("could not install exit code handler", e);
+        }
+    }
+
+    private static void awaitPort(int port, Thread mainThread) {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!mainThread.isAlive()) {
+                throw new IllegalStateException("application stopped during startup");
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 100);
+                return;
+            } catch (IOException notYetListening) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        throw new IllegalStateException("application did not listen on port " + port + " within " + STARTUP_TIMEOUT);
+    }
+}
@@ -0,0 +1,50 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Isolates the cost of binding {@code title}, {@code name} and {@code suffix} into
+ * {@code HelloParamCheatedWithQueryParam}: each route is called once without and once with query parameters, the
+ * difference in latency and {@code gc.alloc.rate.norm} is what the generated injector and the {@code Title}
+ * conversion cost per request.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryParamBindingBenchmark {
+    static final byte[] SPRING_UNBOUND = HttpConnection.get("/echo-param-cheated-with-query-param");
+    static final byte[] SPRING_BOUND = HttpConnection.get("/echo-param-cheated-with-query-param" + EndpointStackBenchmark.VALID_QUERY);
+    static final byte[] JAKARTA_UNBOUND = HttpConnection.get("/jakartars/echo-param-with-query-param");
+    static final byte[] JAKARTA_BOUND = HttpConnection.get("/jakartars/echo-param-with-query-param" + EndpointStackBenchmark.VALID_QUERY);
+
+    @Benchmark
+    public int springUnbound(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(SPRING_UNBOUND);
+    }
+
+    @Benchmark
+    public int springBound(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(SPRING_BOUND);
+    }
+
+    @Benchmark
+    public int jakartaUnbound(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_UNBOUND);
+    }
+
+    @Benchmark
+    public int jakartaBound(EndpointStackBenchmark.Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_BOUND);
+    }
+}
@@ -0,0 +1,72 @@
+package org.acme.spring.web.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.acme.spring.web.limit.TokenBuckets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 16 threads taking tokens of {@link TokenBuckets} at once: all from the bucket of one client, from the buckets of 16
+ * clients, and from those of {@value #CLIENTS} distinct clients, four times more than the buckets kept, so most
+ * requests create a bucket and evict another. At the low {@code rate} nearly all requests are rejected, at the high one
+ * nearly all take a token, a compare-and-set on a bucket shared by the threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(16)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+    static final int CLIENTS = 1 << 22;
+    private static final int FEW = 16;
+
+    @Param({ "10", "1000000000" })
+    double rate;
+
+    TokenBuckets buckets;
+    String[] clients;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        buckets = new TokenBuckets(rate, 100, CLIENTS / 4);
+        clients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = "client-" + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public long oneClient() {
+        return buckets.tryAcquire(clients[0], System.nanoTime());
+    }
+
+    @Benchmark
+    public long fewClients(Client client) {
+        return buckets.tryAcquire(clients[client.random.nextInt(FEW)], System.nanoTime());
+    }
+
+    @Benchmark
+    public long manyClients(Client client) {
+        return buckets.tryAcquire(clients[client.random.nextInt(CLIENTS)], System.nanoTime());
+    }
+}
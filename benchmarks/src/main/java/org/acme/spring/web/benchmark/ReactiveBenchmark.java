@@ -0,0 +1,112 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code /jakartars} routes side by side with their {@code /jakartars/reactive} variants, under the load of 256
+ * concurrent connections. Every execution group runs on the worker pool, so that the blocking routes do block a
+ * worker thread per request while the reactive ones stay on the event loop.
+ * <p>
+ * Each JMH thread is a platform thread holding one connection, 256 of them is what a laptop runs without measuring
+ * the scheduling of the client threads instead of the server.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(256)
+public class ReactiveBenchmark {
+    static final byte[] REACTIVE_HELLO = HttpConnection.get("/jakartars/reactive/greeting?name=bench");
+    static final byte[] REACTIVE_ECHO_PARAM = HttpConnection.get("/jakartars/reactive/echo-param",
+            EndpointStackBenchmark.HELLO_PARAM_JSON);
+    static final byte[] REACTIVE_ECHO_VALIDATED = HttpConnection.get(
+            "/jakartars/reactive/echo-param-with-query-param-with-validations" + EndpointStackBenchmark.VALID_QUERY);
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        QuarkusApp app;
+
+        @Setup(Level.Trial)
+        public void start() {
+            System.setProperty("execution.default-mode", "worker");
+            System.setProperty("execution.group.greeting", "worker");
+            System.setProperty("execution.group.echo", "worker");
+            System.setProperty("execution.group.validated", "worker");
+            app = QuarkusApp.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            QuarkusApp.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        HttpConnection connection;
+
+        @Setup(Level.Trial)
+        public void connect(Application application) throws IOException {
+            connection = application.app.connect();
+            for (byte[] request : new byte[][] { EndpointStackBenchmark.JAKARTA_HELLO, REACTIVE_HELLO,
+                    EndpointStackBenchmark.JAKARTA_ECHO_PARAM, REACTIVE_ECHO_PARAM,
+                    EndpointStackBenchmark.JAKARTA_ECHO_VALIDATED, REACTIVE_ECHO_VALIDATED }) {
+                int status = connection.exchange(request);
+                if (status != 200) {
+                    throw new IllegalStateException("sanity check failed with " + status + ": " + connection.lastBody());
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int blockingHello(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.JAKARTA_HELLO);
+    }
+
+    @Benchmark
+    public int reactiveHello(Client client) throws IOException {
+        return client.connection.exchange(REACTIVE_HELLO);
+    }
+
+    @Benchmark
+    public int blockingHelloWithParam(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.JAKARTA_ECHO_PARAM);
+    }
+
+    @Benchmark
+    public int reactiveHelloWithParam(Client client) throws IOException {
+        return client.connection.exchange(REACTIVE_ECHO_PARAM);
+    }
+
+    @Benchmark
+    public int blockingHelloWithCheatedParamValidated(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.JAKARTA_ECHO_VALIDATED);
+    }
+
+    @Benchmark
+    public int reactiveHelloWithCheatedParamValidated(Client client) throws IOException {
+        return client.connection.exchange(REACTIVE_ECHO_VALIDATED);
+    }
+}
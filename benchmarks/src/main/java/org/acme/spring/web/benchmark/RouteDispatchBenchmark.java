@@ -0,0 +1,88 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code hello} route of each URL family, which all end in the same {@code GreetingPhrases} call on the event
+ * loop, so the differences are the cost of matching and dispatching each route: the Spring-Web routes at the root, the
+ * Jakarta REST routes under {@code /jakartars} and the reactive ones under {@code /jakartars/reactive}, the latter
+ * returning a {@code Uni}. The {@code greeting} execution group runs on the event loop like the reactive route, the
+ * hop to a worker thread would otherwise dwarf the dispatch. The unknown paths of both families, answered with 404 once no route matched, are the floor
+ * of the HTTP server and the route table without any endpoint.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dexecution.group.greeting=event-loop")
+public class RouteDispatchBenchmark {
+    static final byte[] REACTIVE_HELLO = HttpConnection.get("/jakartars/reactive/greeting?name=bench");
+    static final byte[] SPRING_UNKNOWN = HttpConnection.get("/unknown?name=bench");
+    static final byte[] JAKARTA_UNKNOWN = HttpConnection.get("/jakartars/unknown?name=bench");
+
+    @State(Scope.Thread)
+    public static class Client {
+        HttpConnection connection;
+
+        @Setup(Level.Trial)
+        public void connect(EndpointStackBenchmark.Application application) throws IOException {
+            connection = application.app.connect();
+            check(EndpointStackBenchmark.SPRING_HELLO, 200);
+            check(EndpointStackBenchmark.JAKARTA_HELLO, 200);
+            check(REACTIVE_HELLO, 200);
+            check(SPRING_UNKNOWN, 404);
+            check(JAKARTA_UNKNOWN, 404);
+        }
+
+        private void check(byte[] request, int expected) throws IOException {
+            int status = connection.exchange(request);
+            if (status != expected) {
+                throw new IllegalStateException("sanity check failed with " + status + ": " + connection.lastBody());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int springHello(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.SPRING_HELLO);
+    }
+
+    @Benchmark
+    public int jakartaHello(Client client) throws IOException {
+        return client.connection.exchange(EndpointStackBenchmark.JAKARTA_HELLO);
+    }
+
+    @Benchmark
+    public int reactiveHello(Client client) throws IOException {
+        return client.connection.exchange(REACTIVE_HELLO);
+    }
+
+    @Benchmark
+    public int springUnknown(Client client) throws IOException {
+        return client.connection.exchange(SPRING_UNKNOWN);
+    }
+
+    @Benchmark
+    public int jakartaUnknown(Client client) throws IOException {
+        return client.connection.exchange(JAKARTA_UNKNOWN);
+    }
+}
@@ -0,0 +1,304 @@
+package org.acme.spring.web.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+/**
+ * Starts the packaged application as a process of its own, the JVM jar and the native runner if it has been built,
+ * and measures what counts when instances are added under load:
+ * <ul>
+ * <li>{@code startup-ms}, from starting the process to the first successful response,</li>
+ * <li>{@code rss-mb}, the resident set size after the warm-up,</li>
+ * <li>{@code requests-per-second}, of the {@link #MIX} on {@code startup.connections} connections.</li>
+ * </ul>
+ * Each target is started {@code startup.runs} times, the median of the runs counts. The medians are compared with
+ * {@code startup-baseline.properties}: a metric that is worse than its baseline by more than its tolerance, or any
+ * failed request, makes the process exit with 1, which fails {@code ./mvnw -f benchmarks/pom.xml verify -Pstartup}.
+ * Metrics without a baseline are reported only. {@code -Dstartup.record=true} writes the medians as the new baseline.
+ * <p>
+ * Meant for the machine that records the baseline; the numbers of another machine are not comparable.
+ */
+public final class StartupBenchmark {
+    static final List<byte[]> MIX = List.of(
+            EndpointStackBenchmark.SPRING_HELLO,
+            EndpointStackBenchmark.JAKARTA_HELLO,
+            EndpointStackBenchmark.SPRING_ECHO_PARAM,
+            EndpointStackBenchmark.JAKARTA_ECHO_PARAM,
+            HttpConnection.get("/echo-param-at-parameter-object", EndpointStackBenchmark.HELLO_PARAM_JSON),
+            HttpConnection.get("/echo-param-cheated-with-query-param" + EndpointStackBenchmark.VALID_QUERY),
+            HttpConnection.get("/jakartars/echo-param-with-query-param" + EndpointStackBenchmark.VALID_QUERY),
+            HttpConnection.get("/echo-param-at-parameter-object-cheated-with-query-param" + EndpointStackBenchmark.VALID_QUERY),
+            EndpointStackBenchmark.SPRING_ECHO_VALIDATED,
+            EndpointStackBenchmark.JAKARTA_ECHO_VALIDATED,
+            HttpConnection.get("/echo-param-at-parameter-object-cheated-with-query-param-with-validations"
+                    + EndpointStackBenchmark.VALID_QUERY));
+
+    static final String STARTUP = "startup-ms";
+    static final String RSS = "rss-mb";
+    static final String THROUGHPUT = "requests-per-second";
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final double DEFAULT_TOLERANCE = 0.2;
+
+    private final Path targetDirectory = Path.of(System.getProperty("startup.target-dir", "../target"));
+    private final Path baseline = Path.of(System.getProperty("startup.baseline", "startup-baseline.properties"));
+    private final Path logs = Path.of(System.getProperty("startup.log-dir", "target"));
+    private final List<String> targets = Arrays.asList(System.getProperty("startup.targets", "jvm,native").split(" *, *"));
+    private final int runs = Integer.getInteger("startup.runs", 3);
+    private final int connections = Integer.getInteger("startup.connections", 4);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("startup.warmup", 5));
+    private final Duration measurement = Duration.ofSeconds(Integer.getInteger("startup.measurement", 10));
+    private final boolean record = Boolean.getBoolean("startup.record");
+    private final int port = Integer.getInteger(QuarkusApp.PORT_PROPERTY, 8089);
+
+    public static void main(String[] args) throws Exception {
+        System.exit(new StartupBenchmark().run());
+    }
+
+    /**
+     * @return the exit code, 0 if nothing regressed
+     */
+    int run() throws IOException, InterruptedException {
+        Files.createDirectories(logs);
+        Map<String, Double> medians = new TreeMap<>();
+        boolean failed = false;
+        for (String target : targets) {
+            Optional<List<String>> command = command(target);
+            if (command.isEmpty()) {
+                System.out.printf("%s: not built, skipped%n", target);
+                continue;
+            }
+            List<Run> results = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                Run result = measure(target, i, command.get());
+                System.out.printf("%s #%d: %s%n", target, i + 1, result);
+                failed |= result.failedRequests() > 0;
+                results.add(result);
+            }
+            medians.put(target + "." + STARTUP, median(results.stream().mapToDouble(Run::startupMillis)));
+            medians.put(target + "." + RSS, median(results.stream().mapToDouble(Run::rssMegabytes)));
+            medians.put(target + "." + THROUGHPUT, median(results.stream().mapToDouble(Run::requestsPerSecond)));
+        }
+        if (record) {
+            record(medians);
+            return failed ? 1 : 0;
+        }
+        return compare(medians) && !failed ? 0 : 1;
+    }
+
+    private Optional<List<String>> command(String target) throws IOException {
+        List<String> command = new ArrayList<>();
+        switch (target) {
+            case "jvm" -> {
+                Path jar = targetDirectory.resolve("quarkus-app/quarkus-run.jar");
+                if (!Files.exists(jar)) {
+                    return Optional.empty();
+                }
+                command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+                command.addAll(Arrays.asList(System.getProperty("startup.jvm-args", "").split(" ")));
+                command.add("-Dquarkus.http.port=" + port);
+                command.add("-jar");
+                command.add(jar.toString());
+            }
+            case "native" -> {
+                if (!Files.isDirectory(targetDirectory)) {
+                    return Optional.empty();
+                }
+                try (Stream<Path> files = Files.list(targetDirectory)) {
+                    Optional<Path> runner = files.filter(file -> file.getFileName().toString().endsWith("-runner")
+                            && Files.isExecutable(file)).findFirst();
+                    if (runner.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    command.add(runner.get().toString());
+                    command.add("-Dquarkus.http.port=" + port);
+                }
+            }
+            default -> throw new IllegalArgumentException("unknown target " + target + ", expected jvm or native");
+        }
+        command.removeIf(String::isBlank);
+        return Optional.of(command);
+    }
+
+    private Run measure(String target, int run, List<String> command) throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logs.resolve("startup-" + target + "-" + (run + 1) + ".log").toFile());
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            awaitFirstResponse(process);
+            double startupMillis = (System.nanoTime() - start) / 1e6;
+            load(warmup);
+            double rssMegabytes = rss(process.pid()) / 1024.0;
+            long[] requests = load(measurement);
+            return new Run(startupMillis, rssMegabytes, requests[0] / (double) measurement.toSeconds(), requests[1]);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void awaitFirstResponse(Process process) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("application exited with " + process.exitValue() + " during startup");
+            }
+            try (HttpConnection connection = new HttpConnection("localhost", port)) {
+                if (connection.exchange(MIX.get(0)) == 200) {
+                    return;
+                }
+            } catch (IOException notYetListening) {
+                // retried below
+            }
+            Thread.sleep(1);
+        }
+        throw new IllegalStateException("no response on port " + port + " within " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * Runs the {@link #MIX} round-robin on {@link #connections} connections.
+     *
+     * @return the number of responses and of the ones that were not 200
+     */
+    private long[] load(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(connections);
+        try {
+            List<Future<long[]>> counts = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                int offset = i;
+                counts.add(clients.submit(() -> {
+                    long responses = 0;
+                    long failures = 0;
+                    try (HttpConnection connection = new HttpConnection("localhost", port)) {
+                        for (int next = offset; System.nanoTime() < deadline; next++) {
+                            if (connection.exchange(MIX.get(next % MIX.size())) != 200) {
+                                failures++;
+                            }
+                            responses++;
+                        }
+                    }
+                    return new long[] { responses, failures };
+                }));
+            }
+            long[] total = new long[2];
+            for (Future<long[]> count : counts) {
+                long[] client = count.get();
+                total[0] += client[0];
+                total[1] += client[1];
+            }
+            return total;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("load failed", e.getCause());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the resident set size in KiB, from {@code /proc} on Linux and from {@code ps} elsewhere
+     */
+    static long rss(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.exists(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").strip());
+                }
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        try (InputStream out = ps.getInputStream()) {
+            String rss = new String(out.readAllBytes(), StandardCharsets.US_ASCII).strip();
+            ps.waitFor();
+            return Long.parseLong(rss);
+        }
+    }
+
+    /**
+     * @return whether no metric regressed beyond its tolerance
+     */
+    private boolean compare(Map<String, Double> medians) throws IOException {
+        Properties expected = load(baseline);
+        boolean passed = true;
+        System.out.printf("%n%-32s %12s %12s %9s%n", "metric", "baseline", "measured", "change");
+        for (Map.Entry<String, Double> median : medians.entrySet()) {
+            String key = median.getKey();
+            String value = expected.getProperty(key);
+            if (value == null) {
+                System.out.printf("%-32s %12s %12.1f %9s%n", key, "-", median.getValue(), "");
+                continue;
+            }
+            double base = Double.parseDouble(value);
+            double change = (median.getValue() - base) / base;
+            String metric = key.substring(key.indexOf('.') + 1);
+            double tolerance = Double.parseDouble(expected.getProperty("tolerance." + metric, Double.toString(DEFAULT_TOLERANCE)));
+            // fewer requests per second is worse, for the others more is worse
+            boolean regressed = metric.equals(THROUGHPUT) ? change < -tolerance : change > tolerance;
+            passed &= !regressed;
+            System.out.printf(Locale.ROOT, "%-32s %12.1f %12.1f %+8.1f%%%s%n", key, base, median.getValue(), change * 100,
+                    regressed ? "  REGRESSED, tolerance " + Math.round(tolerance * 100) + "%" : "");
+        }
+        return passed;
+    }
+
+    /**
+     * Replaces the measured metrics in the baseline, keeping the tolerances and the metrics of skipped targets.
+     */
+    private void record(Map<String, Double> medians) throws IOException {
+        Properties properties = load(baseline);
+        medians.forEach((key, value) -> properties.setProperty(key, String.format(Locale.ROOT, "%.1f", value)));
+        List<String> lines = new ArrayList<>();
+        lines.add("# medians of StartupBenchmark, recorded with -Dstartup.record=true on the machine running the gate");
+        new TreeMap<>(properties).forEach((key, value) -> lines.add(key + "=" + value));
+        Files.write(baseline, lines);
+        System.out.printf("recorded %s in %s%n", medians, baseline.toAbsolutePath());
+    }
+
+    private static Properties load(Path file) throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    private static double median(DoubleStream values) {
+        double[] sorted = values.sorted().toArray();
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    record Run(double startupMillis, double rssMegabytes, double requestsPerSecond, long failedRequests) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "startup %.0f ms, rss %.1f MB, %.0f requests/s%s", startupMillis, rssMegabytes,
+                    requestsPerSecond, failedRequests > 0 ? ", " + failedRequests + " failed requests" : "");
+        }
+    }
+}
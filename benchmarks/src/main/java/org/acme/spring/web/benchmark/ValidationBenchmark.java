@@ -0,0 +1,93 @@
+package org.acme.spring.web.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.executable.ExecutableValidator;
+
+import org.acme.spring.web.GreetingController;
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.acme.spring.web.entity.Title;
+import org.acme.spring.web.validation.FastPathValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request cost of the parameter validation the {@code @Valid} interceptor performs for
+ * {@code helloWithCheatedParamValidated}, with plain Hibernate Validator and with {@link FastPathValidator}.
+ * <p>
+ * Invalid parameters are where {@link FastPathValidator} falls back to Hibernate Validator, so the {@code invalid}
+ * variants show the price of the failed fast path on top of it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+    ValidatorFactory validatorFactory;
+    ExecutableValidator hibernateValidator;
+    ExecutableValidator fastPathValidator;
+    GreetingController target;
+    Method method;
+    Object[] valid;
+    Object[] invalid;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        hibernateValidator = validatorFactory.getValidator().forExecutables();
+        fastPathValidator = new FastPathValidator(validatorFactory).forExecutables();
+        target = new GreetingController();
+        method = GreetingController.class.getMethod("helloWithCheatedParamValidated", HelloParamCheatedWithQueryParam.class);
+        valid = new Object[] { param(Title.MR, "bench") };
+        invalid = new Object[] { param(null, "") };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<GreetingController>> hibernateValidatorValid() {
+        return hibernateValidator.validateParameters(target, method, valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<GreetingController>> fastPathValid() {
+        return fastPathValidator.validateParameters(target, method, valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<GreetingController>> hibernateValidatorInvalid() {
+        return hibernateValidator.validateParameters(target, method, invalid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<GreetingController>> fastPathInvalid() {
+        return fastPathValidator.validateParameters(target, method, invalid);
+    }
+
+    private static HelloParamCheatedWithQueryParam param(Title title, String name) {
+        var param = new HelloParamCheatedWithQueryParam();
+        param.setTitle(title);
+        param.setName(name);
+        return param;
+    }
+}
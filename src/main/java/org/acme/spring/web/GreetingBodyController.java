@@ -0,0 +1,75 @@
+package org.acme.spring.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.validation.Valid;
+import jakarta.ws.rs.BeanParam;
+
+import org.acme.spring.web.batch.GreetingBatch;
+import org.acme.spring.web.binary.BinaryMediaType;
+import org.acme.spring.web.echo.EchoBody;
+import org.acme.spring.web.entity.HelloParam;
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.acme.spring.web.limit.ConcurrencyLimited;
+import org.acme.spring.web.limit.RateLimited;
+import org.acme.spring.web.metrics.EndpointMetered;
+import org.acme.spring.web.validation.PreValidated;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.springdoc.api.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * The Spring-Web routes of {@link GreetingController} that read a request body, blocking on a worker thread while it
+ * arrives. They are a controller of their own because Quarkus only accepts {@code @Blocking} and {@code @NonBlocking}
+ * on the methods of Jakarta REST resources, the execution model of a Spring-Web route is chosen for its whole class.
+ */
+@Blocking
+@ConcurrencyLimited
+@EndpointMetered
+@RestController
+@RequestMapping("")
+public class GreetingBodyController {
+    @Autowired
+    GreetingBatch batch;
+    @Autowired
+    EchoBody echoBody;
+
+    @RestStreamElementType(GreetingBatch.NDJSON)
+    @PostMapping(path = "/greeting/batch", consumes = { MediaType.APPLICATION_JSON_VALUE, GreetingBatch.NDJSON }, produces = GreetingBatch.NDJSON)
+    public Multi<byte[]> helloBatch(@RequestBody InputStream names, HttpServerResponse response) {
+        return batch.greet(names, response);
+    }
+
+    @RateLimited(RateLimited.ECHO)
+    @GetMapping(path = "/echo-param", produces = { MediaType.APPLICATION_JSON_VALUE, BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    public HelloParam helloWithParam(HelloParam helloParam) {
+        return helloParam;
+    }
+
+    @RateLimited(RateLimited.ECHO)
+    @GetMapping(path = "/echo-param-at-parameter-object", produces = { MediaType.APPLICATION_JSON_VALUE, BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    public HelloParam helloWithParamAnnotatedWithParamObject(@ParameterObject HelloParam helloParam) {
+        return helloParam;
+    }
+
+    @RateLimited(RateLimited.ECHO)
+    @PostMapping(path = "/echo-param-cheated-with-query-param-with-validations", produces = { MediaType.APPLICATION_JSON_VALUE, BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    @PreValidated
+    public HelloParamCheatedWithQueryParam helloWithCheatedParamValidatedPost(@BeanParam @Valid HelloParamCheatedWithQueryParam helloParam,
+            @RequestBody InputStream body, HttpServerRequest request) throws IOException {
+        echoBody.consume(request, body);
+        return helloParam;
+    }
+}
@@ -5,60 +5,79 @@ import java.util.Optional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.BeanParam;
 
+import org.acme.spring.web.batch.GreetingBatch;
+import org.acme.spring.web.binary.BinaryMediaType;
+import org.acme.spring.web.cache.CachedGreeting;
 import org.acme.spring.web.entity.Greeting;
-import org.acme.spring.web.entity.HelloParam;
 import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.acme.spring.web.execution.ExecutionGroup;
+import org.acme.spring.web.limit.ConcurrencyLimited;
+import org.acme.spring.web.limit.RateLimited;
+import org.acme.spring.web.metrics.EndpointMetered;
+import org.acme.spring.web.phrase.GreetingPhrases;
+import org.acme.spring.web.validation.PreValidated;
 import org.springdoc.api.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.smallrye.common.annotation.NonBlocking;
 import io.smallrye.common.constraint.NotNull;
 
+/**
+ * The Spring-Web routes, at the root. Quarkus turns them into Quarkus REST endpoints, so they share the route table,
+ * filters and writers of {@link GreetingResource}: both are thin adapters over the same {@link GreetingPhrases},
+ * {@link GreetingBatch} and echo DTOs, and only differ in their URLs and in the parameter objects Spring adds.
+ * <p>
+ * These routes read no body and do not block, the {@link ExecutionGroup} of each chooses where it runs. The routes
+ * reading a body are those of {@link GreetingBodyController}.
+ */
+@NonBlocking
+@ConcurrencyLimited
+@EndpointMetered
 @RestController
 @RequestMapping("")
 public class GreetingController {
+    @Autowired
+    GreetingPhrases phrases;
 
-    @GetMapping(path = "/greeting", produces = MediaType.APPLICATION_JSON_VALUE)
+    @CachedGreeting
+    @RateLimited(RateLimited.GREETING)
+    @ExecutionGroup(ExecutionGroup.GREETING)
+    @GetMapping(path = "/greeting", produces = { MediaType.APPLICATION_JSON_VALUE, BinaryMediaType.CBOR, BinaryMediaType.SMILE })
     public Greeting hello(@RequestParam("name") Optional<String> name) {
-        return new Greeting("hello " + name.orElse("?????"));
+        return phrases.greet(name.orElse(null));
     }
 
-    @GetMapping(path = "/echo-param", produces = MediaType.APPLICATION_JSON_VALUE)
-    public HelloParam helloWithParam(HelloParam helloParam) {
-        return helloParam;
-    }
-
-    @GetMapping(path = "/echo-param-at-parameter-object", produces = MediaType.APPLICATION_JSON_VALUE)
-    public HelloParam helloWithParamAnnotatedWithParamObject(@ParameterObject HelloParam helloParam) {
-        return helloParam;
-    }
-
-    @GetMapping(path = "/echo-param-cheated-with-query-param", produces = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited(RateLimited.ECHO)
+    @ExecutionGroup(ExecutionGroup.ECHO)
+    @GetMapping(path = "/echo-param-cheated-with-query-param", produces = { MediaType.APPLICATION_JSON_VALUE, BinaryMediaType.CBOR, BinaryMediaType.SMILE })
     public HelloParamCheatedWithQueryParam helloWithCheatedParam(HelloParamCheatedWithQueryParam helloParam) {
         return helloParam;
     }
 
-    @GetMapping(path = "/echo-param-at-parameter-object-cheated-with-query-param", produces = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited(RateLimited.ECHO)
+    @ExecutionGroup(ExecutionGroup.ECHO)
+    @GetMapping(path = "/echo-param-at-parameter-object-cheated-with-query-param", produces = { MediaType.APPLICATION_JSON_VALUE, BinaryMediaType.CBOR, BinaryMediaType.SMILE })
     public HelloParamCheatedWithQueryParam helloWithCheatedParamAnnotatedWithParamObject(@ParameterObject HelloParamCheatedWithQueryParam helloParam) {
         return helloParam;
     }
 
-    @GetMapping(path = "/echo-param-cheated-with-query-param-with-validations", produces = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited(RateLimited.ECHO)
+    @ExecutionGroup(ExecutionGroup.VALIDATED)
+    @GetMapping(path = "/echo-param-cheated-with-query-param-with-validations", produces = { MediaType.APPLICATION_JSON_VALUE, BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    @PreValidated
     public HelloParamCheatedWithQueryParam helloWithCheatedParamValidated(@BeanParam @Valid HelloParamCheatedWithQueryParam helloParam) {
         return helloParam;
     }
 
-    @PostMapping(path = "/echo-param-cheated-with-query-param-with-validations", produces = MediaType.APPLICATION_JSON_VALUE)
-    public HelloParamCheatedWithQueryParam helloWithCheatedParamValidatedPost(@BeanParam @Valid HelloParamCheatedWithQueryParam helloParam,
-            String body) {
-        return helloParam;
-    }
-
-    @GetMapping(path = "/echo-param-at-parameter-object-cheated-with-query-param-with-validations", produces = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited(RateLimited.ECHO)
+    @ExecutionGroup(ExecutionGroup.VALIDATED)
+    @GetMapping(path = "/echo-param-at-parameter-object-cheated-with-query-param-with-validations", produces = { MediaType.APPLICATION_JSON_VALUE, BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    @PreValidated
     public HelloParamCheatedWithQueryParam helloWithCheatedParamAnnotatedWithParamObjectValidated(@BeanParam @Valid @ParameterObject HelloParamCheatedWithQueryParam helloParam) {
         return helloParam;
     }
@@ -1,45 +1,97 @@
 package org.acme.spring.web;
 
+import java.io.InputStream;
 import java.util.Optional;
 
+import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 
+import org.acme.spring.web.batch.GreetingBatch;
+import org.acme.spring.web.binary.BinaryMediaType;
+import org.acme.spring.web.cache.CachedGreeting;
 import org.acme.spring.web.entity.Greeting;
 import org.acme.spring.web.entity.HelloParam;
 import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.acme.spring.web.execution.ExecutionGroup;
+import org.acme.spring.web.limit.ConcurrencyLimited;
+import org.acme.spring.web.limit.RateLimited;
+import org.acme.spring.web.metrics.EndpointMetered;
+import org.acme.spring.web.phrase.GreetingPhrases;
+import org.acme.spring.web.validation.PreValidated;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * The Jakarta REST routes of {@link GreetingController} and {@link GreetingBodyController}, under {@code /jakartars},
+ * answering the same requests with the same responses through the same {@link GreetingPhrases} and
+ * {@link GreetingBatch}.
+ */
+@ConcurrencyLimited
+@EndpointMetered
 @Path("/jakartars")
 public class GreetingResource {
+    @Inject
+    GreetingBatch batch;
+    @Inject
+    GreetingPhrases phrases;
 
     @GET()
     @Path("/greeting")
-    @Produces("application/json")
+    @CachedGreeting
+    @RateLimited(RateLimited.GREETING)
+    @Produces({ "application/json", BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    @NonBlocking
+    @ExecutionGroup(ExecutionGroup.GREETING)
     public Greeting hello(@QueryParam("name") Optional<String> name) {
-        return new Greeting("hello " + name.orElse("?????"));
+        return phrases.greet(name.orElse(null));
+    }
+
+    @POST
+    @Path("/greeting/batch")
+    @Consumes({ "application/json", GreetingBatch.NDJSON })
+    @Produces(GreetingBatch.NDJSON)
+    @RestStreamElementType(GreetingBatch.NDJSON)
+    @Blocking
+    public Multi<byte[]> helloBatch(InputStream names, HttpServerResponse response) {
+        return batch.greet(names, response);
     }
 
     @GET()
     @Path("/echo-param")
-    @Produces("application/json")
+    @RateLimited(RateLimited.ECHO)
+    @Produces({ "application/json", BinaryMediaType.CBOR, BinaryMediaType.SMILE })
     public HelloParam helloWithParam(HelloParam helloParam) {
         return helloParam;
     }
 
     @GET()
     @Path("/echo-param-with-query-param")
-    @Produces("application/json")
+    @RateLimited(RateLimited.ECHO)
+    @Produces({ "application/json", BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    @NonBlocking
+    @ExecutionGroup(ExecutionGroup.ECHO)
     public HelloParamCheatedWithQueryParam helloWithQueryParam(HelloParamCheatedWithQueryParam helloParam) {
         return helloParam;
     }
 
     @GET()
     @Path("/echo-param-with-query-param-with-validations")
-    @Produces("application/json")
+    @RateLimited(RateLimited.ECHO)
+    @Produces({ "application/json", BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    @NonBlocking
+    @ExecutionGroup(ExecutionGroup.VALIDATED)
+    @PreValidated
     public HelloParamCheatedWithQueryParam helloWithCheatedParamValidated(@BeanParam @Valid HelloParamCheatedWithQueryParam helloParam) {
         return helloParam;
     }
@@ -0,0 +1,93 @@
+package org.acme.spring.web;
+
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+
+import org.acme.spring.web.batch.GreetingBatch;
+import org.acme.spring.web.binary.BinaryMediaType;
+import org.acme.spring.web.cache.CachedGreeting;
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.entity.HelloParam;
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.acme.spring.web.execution.GetBody;
+import org.acme.spring.web.limit.ConcurrencyLimited;
+import org.acme.spring.web.limit.RateLimited;
+import org.acme.spring.web.metrics.EndpointMetered;
+import org.acme.spring.web.phrase.GreetingPhrases;
+import org.acme.spring.web.validation.PreValidated;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * The routes of {@link GreetingResource} returning Mutiny types, which Quarkus REST runs on the event loop from
+ * parameter binding to the written response. Validation included: {@code @Valid} parameters are checked in memory by
+ * the {@link org.acme.spring.web.validation.FastPathValidator}, on the event loop like the rest.
+ * <p>
+ * Their responses are the same as those of the {@link GreetingResource} routes, the batch body is read completely
+ * before the first greeting though, instead of as fast as the greetings are sent.
+ */
+@ConcurrencyLimited
+@EndpointMetered
+@Path("/jakartars/reactive")
+public class ReactiveGreetingResource {
+    @Inject
+    GreetingBatch batch;
+    @Inject
+    GreetingPhrases phrases;
+
+    @GET()
+    @Path("/greeting")
+    @CachedGreeting
+    @RateLimited(RateLimited.GREETING)
+    @Produces({ "application/json", BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    public Uni<Greeting> hello(@QueryParam("name") Optional<String> name) {
+        return Uni.createFrom().item(phrases.greet(name.orElse(null)));
+    }
+
+    @POST
+    @Path("/greeting/batch")
+    @Consumes({ "application/json", GreetingBatch.NDJSON })
+    @Produces(GreetingBatch.NDJSON)
+    @RestStreamElementType(GreetingBatch.NDJSON)
+    public Multi<byte[]> helloBatch(byte[] names, HttpServerResponse response) {
+        return batch.greet(names, response);
+    }
+
+    @GET()
+    @Path("/echo-param")
+    @RateLimited(RateLimited.ECHO)
+    @Produces({ "application/json", BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    @GetBody
+    public Uni<HelloParam> helloWithParam(HelloParam helloParam) {
+        return Uni.createFrom().item(helloParam);
+    }
+
+    @GET()
+    @Path("/echo-param-with-query-param")
+    @RateLimited(RateLimited.ECHO)
+    @Produces({ "application/json", BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    public Uni<HelloParamCheatedWithQueryParam> helloWithQueryParam(HelloParamCheatedWithQueryParam helloParam) {
+        return Uni.createFrom().item(helloParam);
+    }
+
+    @GET()
+    @Path("/echo-param-with-query-param-with-validations")
+    @RateLimited(RateLimited.ECHO)
+    @Produces({ "application/json", BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    @PreValidated
+    public Uni<HelloParamCheatedWithQueryParam> helloWithCheatedParamValidated(@BeanParam @Valid HelloParamCheatedWithQueryParam helloParam) {
+        return Uni.createFrom().item(helloParam);
+    }
+}
@@ -0,0 +1,241 @@
+package org.acme.spring.web.batch;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+import org.acme.spring.web.phrase.GreetingPhrases;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.groups.GeneratorEmitter;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Greets every name of a batch request as newline delimited JSON, parsing the body only as fast as the greetings are
+ * written: the next block of greetings is only parsed once the previous one has been sent, so a slow client slows
+ * down the reading of the request instead of piling up greetings in memory.
+ * <p>
+ * A block holds the greetings of all names that could be parsed without waiting for more of the body, up to
+ * {@link #BLOCK_SIZE} bytes, so a client sending its names bit by bit gets the greetings as soon as possible, and a
+ * batch that has arrived completely is answered with a few large writes instead of one per greeting.
+ * <p>
+ * The body is either a JSON array or newline delimited JSON values. Each value is a name, {@code null} for an absent
+ * name, or a {@code HelloParam} object of which only {@code name} is used.
+ */
+@Singleton
+public class GreetingBatch {
+    public static final String NDJSON = "application/x-ndjson";
+
+    static final int BLOCK_SIZE = 8 * 1024;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final int maxSize;
+    private final GreetingPhrases phrases;
+
+    public GreetingBatch(GreetingBatchConfig config, GreetingPhrases phrases) {
+        this.maxSize = config.maxSize();
+        this.phrases = phrases;
+    }
+
+    /**
+     * A failure before the first block becomes the status of the response, e.g. 400 for a malformed body or 413 for
+     * too many names. Once greetings have been sent, the response is reset instead: Quarkus REST can neither report
+     * the failure nor would it end the response, and the client must not mistake the greetings it got for the whole
+     * batch.
+     *
+     * @param body read on a worker thread, never on the event loop that writes the greetings
+     * @return blocks of greetings separated by newlines, without a newline after the last one
+     */
+    public Multi<byte[]> greet(InputStream body, HttpServerResponse response) {
+        Names names = new Names(body, maxSize, phrases);
+        return resetOnLateFailure(Multi.createFrom().<Names, byte[]> generator(() -> names, Names::emitNext)
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool()), names, response);
+    }
+
+    /**
+     * Same as {@link #greet(InputStream, HttpServerResponse)} for a body that has already been read completely, e.g.
+     * by Quarkus REST on the event loop. Parsing it cannot block, so the greetings are computed on the thread that
+     * requests them.
+     */
+    public Multi<byte[]> greet(byte[] body, HttpServerResponse response) {
+        Names names = new Names(new ByteArrayInputStream(body), maxSize, phrases);
+        return resetOnLateFailure(Multi.createFrom().<Names, byte[]> generator(() -> names, Names::emitNext), names, response);
+    }
+
+    private static Multi<byte[]> resetOnLateFailure(Multi<byte[]> greetings, Names names, HttpServerResponse response) {
+        return greetings
+                .onFailure(failure -> names.emitted > 0).invoke(failure -> response.reset())
+                // neither completes nor fails, the reset connection cancels the subscription
+                .onFailure(failure -> names.emitted > 0).recoverWithMulti(Multi.createFrom().nothing());
+    }
+
+    /**
+     * Feeds the body into Jackson's non-blocking parser, which tells when it needs more input; that is when the body
+     * might block and the pending greetings are emitted first.
+     */
+    private static final class Names {
+        private final InputStream body;
+        private final int maxSize;
+        private final GreetingPhrases phrases;
+        private final byte[] input = new byte[BLOCK_SIZE];
+        private JsonParser parser;
+        private ByteArrayFeeder feeder;
+        private byte[] block = new byte[256];
+        private int blockLength;
+        private int count;
+        private int emitted;
+
+        private boolean started;
+        private boolean array;
+        private boolean arrayEnded;
+        /**
+         * Nesting inside the current {@code HelloParam} object, 0 between names.
+         */
+        private int depth;
+        private String field;
+        private String name;
+
+        Names(InputStream body, int maxSize, GreetingPhrases phrases) {
+            this.body = body;
+            this.maxSize = maxSize;
+            this.phrases = phrases;
+        }
+
+        Names emitNext(GeneratorEmitter<? super byte[]> emitter) {
+            try {
+                byte[] greetings = nextBlock();
+                if (greetings == null) {
+                    emitter.complete();
+                } else {
+                    emitted++;
+                    emitter.emit(greetings);
+                }
+            } catch (JsonProcessingException e) {
+                emitter.fail(new BadRequestException(e.getOriginalMessage(), e));
+            } catch (IOException | RuntimeException e) {
+                emitter.fail(e);
+            }
+            return this;
+        }
+
+        /**
+         * @return the next block of greetings, {@code null} at the end of the batch
+         */
+        private byte[] nextBlock() throws IOException {
+            if (parser == null) {
+                parser = JSON.createNonBlockingByteArrayParser();
+                feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            }
+            while (true) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.NOT_AVAILABLE) {
+                    if (blockLength > 0) {
+                        return takeBlock();
+                    }
+                    int read = body.read(input);
+                    if (read < 0) {
+                        feeder.endOfInput();
+                    } else {
+                        feeder.feedInput(input, 0, read);
+                    }
+                } else if (token == null) {
+                    if (array && !arrayEnded) {
+                        throw new BadRequestException("unterminated array of names");
+                    }
+                    return blockLength > 0 ? takeBlock() : null;
+                } else {
+                    accept(token);
+                    if (blockLength >= BLOCK_SIZE) {
+                        return takeBlock();
+                    }
+                }
+            }
+        }
+
+        private void accept(JsonToken token) throws IOException {
+            if (!started) {
+                started = true;
+                array = token == JsonToken.START_ARRAY;
+                if (array) {
+                    return;
+                }
+            }
+            if (arrayEnded) {
+                throw new BadRequestException("unexpected content after the array of names");
+            }
+            if (depth == 0) {
+                switch (token) {
+                    case VALUE_STRING -> add(parser.getText());
+                    case VALUE_NULL -> add(null);
+                    case START_OBJECT -> {
+                        depth = 1;
+                        field = null;
+                        name = null;
+                    }
+                    case END_ARRAY -> arrayEnded = true;
+                    default -> throw new BadRequestException("expected a name, null or an object but got " + token);
+                }
+            } else if (depth == 1) {
+                switch (token) {
+                    case FIELD_NAME -> field = parser.currentName();
+                    case END_OBJECT -> {
+                        depth = 0;
+                        add(name);
+                    }
+                    case VALUE_STRING -> name = "name".equals(field) ? parser.getText() : name;
+                    case VALUE_NULL -> name = "name".equals(field) ? null : name;
+                    default -> {
+                        if ("name".equals(field)) {
+                            throw new BadRequestException("name must be a string");
+                        }
+                        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                            depth++;
+                        }
+                    }
+                }
+            } else if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                depth++;
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                depth--;
+            }
+        }
+
+        private void add(String name) {
+            if (count == maxSize) {
+                throw new WebApplicationException("more than " + maxSize + " names", Response.Status.REQUEST_ENTITY_TOO_LARGE);
+            }
+            count++;
+            byte[] greeting = phrases.phrase(name).json();
+            int length = blockLength + 1 + greeting.length;
+            if (length > block.length) {
+                block = Arrays.copyOf(block, Math.max(length, Math.min(2 * block.length, BLOCK_SIZE)));
+            }
+            if (blockLength > 0) {
+                // Quarkus REST writes the newline after each block
+                block[blockLength++] = '\n';
+            }
+            System.arraycopy(greeting, 0, block, blockLength, greeting.length);
+            blockLength += greeting.length;
+        }
+
+        private byte[] takeBlock() {
+            byte[] greetings = Arrays.copyOf(block, blockLength);
+            blockLength = 0;
+            return greetings;
+        }
+    }
+}
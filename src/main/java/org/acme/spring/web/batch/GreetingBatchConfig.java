@@ -0,0 +1,14 @@
+package org.acme.spring.web.batch;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "greeting.batch")
+public interface GreetingBatchConfig {
+
+    /**
+     * Maximum number of names in one batch request, the response fails after that many greetings.
+     */
+    @WithDefault("1000")
+    int maxSize();
+}
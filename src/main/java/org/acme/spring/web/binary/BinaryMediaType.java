@@ -0,0 +1,25 @@
+package org.acme.spring.web.binary;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * The binary formats the greeting and echo endpoints produce next to JSON, for callers that ask for them in
+ * {@code Accept}. JSON stays listed first, so that it is what {@code *}{@code /*} and a missing {@code Accept} get.
+ */
+public final class BinaryMediaType {
+    public static final String CBOR = "application/cbor";
+    public static final MediaType CBOR_TYPE = new MediaType("application", "cbor");
+    public static final String SMILE = "application/x-jackson-smile";
+    public static final MediaType SMILE_TYPE = new MediaType("application", "x-jackson-smile");
+
+    private BinaryMediaType() {
+    }
+
+    /**
+     * Cheap check for requests that might negotiate a binary format, e.g. to leave them to Quarkus REST instead of
+     * answering with cached JSON. Errs on the side of {@code true}: a binary type with {@code q=0} still counts.
+     */
+    public static boolean isAccepted(String accept) {
+        return accept != null && (accept.contains("cbor") || accept.contains("smile"));
+    }
+}
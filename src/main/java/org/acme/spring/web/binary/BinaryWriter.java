@@ -0,0 +1,70 @@
+package org.acme.spring.web.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.entity.HelloParam;
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Base of the writers of the response types of the endpoints in a binary Jackson format: the application's
+ * {@link ObjectMapper} configuration on top of the format's {@link JsonFactory}, so that the documents have the same
+ * properties and values as the JSON ones, only encoded differently.
+ */
+public abstract class BinaryWriter implements ServerMessageBodyWriter<Object> {
+    private static final Set<Class<?>> TYPES = Set.of(Greeting.class, HelloParam.class,
+            HelloParamCheatedWithQueryParam.class);
+
+    private final MediaType mediaType;
+    private final ObjectWriter writer;
+
+    protected BinaryWriter(ObjectMapper mapper, JsonFactory format, MediaType mediaType) {
+        this.mediaType = mediaType;
+        this.writer = mapper.copyWith(format).writer();
+    }
+
+    public byte[] encode(Object value) throws IOException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return isWriteable(type, mediaType);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isWriteable(type, mediaType);
+    }
+
+    private boolean isWriteable(Class<?> type, MediaType mediaType) {
+        // never a default, only when asked for
+        return TYPES.contains(type) && mediaType != null && this.mediaType.isCompatible(mediaType)
+                && !mediaType.isWildcardSubtype();
+    }
+
+    @Override
+    public void writeResponse(Object value, Type genericType, ServerRequestContext context) throws IOException {
+        context.serverResponse().end(encode(value));
+    }
+
+    @Override
+    public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        entityStream.write(encode(value));
+    }
+}
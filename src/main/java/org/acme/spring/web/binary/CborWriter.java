@@ -0,0 +1,16 @@
+package org.acme.spring.web.binary;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+@Provider
+@Produces(BinaryMediaType.CBOR)
+public class CborWriter extends BinaryWriter {
+
+    public CborWriter(ObjectMapper mapper) {
+        super(mapper, new CBORFactory(), BinaryMediaType.CBOR_TYPE);
+    }
+}
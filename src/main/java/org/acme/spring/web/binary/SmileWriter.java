@@ -0,0 +1,16 @@
+package org.acme.spring.web.binary;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+@Provider
+@Produces(BinaryMediaType.SMILE)
+public class SmileWriter extends BinaryWriter {
+
+    public SmileWriter(ObjectMapper mapper) {
+        super(mapper, new SmileFactory(), BinaryMediaType.SMILE_TYPE);
+    }
+}
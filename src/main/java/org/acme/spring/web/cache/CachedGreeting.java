@@ -0,0 +1,18 @@
+package org.acme.spring.web.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.NameBinding;
+
+/**
+ * Serves the annotated greeting endpoint through {@link GreetingCache} when it is enabled. The endpoint must return a
+ * {@link org.acme.spring.web.entity.Greeting} that depends on the {@code name} query parameter only.
+ */
+@NameBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedGreeting {
+}
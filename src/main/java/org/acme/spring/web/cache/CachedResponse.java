@@ -0,0 +1,7 @@
+package org.acme.spring.web.cache;
+
+/**
+ * A serialized response body with its strong entity tag, quoted as in the {@code ETag} header.
+ */
+public record CachedResponse(byte[] body, String etag) {
+}
@@ -0,0 +1,83 @@
+package org.acme.spring.web.cache;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Singleton;
+
+import org.acme.spring.web.http.EntityTags;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Size and time bounded cache of serialized greetings, keyed by the {@code name} query parameter; everything else
+ * in the query does not influence the response.
+ * <p>
+ * Eviction is Caffeine's W-TinyLFU, which keeps the frequently requested names under a skewed load. Hits, misses and
+ * evictions are published as {@code cache_gets_total} and {@code cache_evictions_total} with {@code cache=greeting}.
+ */
+@Singleton
+public class GreetingCache {
+    /**
+     * Key for requests without {@code name}, which is different from an empty {@code name}.
+     */
+    static final Object ABSENT = new Object();
+
+    private final Optional<Cache<Object, CachedResponse>> cache;
+    private final Set<String> paths = ConcurrentHashMap.newKeySet();
+
+    public GreetingCache(GreetingCacheConfig config, MeterRegistry registry) {
+        if (config.enabled()) {
+            Cache<Object, CachedResponse> cache = Caffeine.newBuilder()
+                    .maximumSize(config.maximumSize())
+                    .expireAfterWrite(config.expireAfterWrite())
+                    .recordStats()
+                    .build();
+            this.cache = Optional.of(CaffeineCacheMetrics.monitor(registry, cache, "greeting"));
+        } else {
+            this.cache = Optional.empty();
+        }
+    }
+
+    public boolean isEnabled() {
+        return cache.isPresent();
+    }
+
+    /**
+     * @return whether responses of the endpoint at {@code path} have been cached
+     */
+    public boolean isCachedPath(String path) {
+        return paths.contains(path);
+    }
+
+    /**
+     * @return the cached response for {@code key}, empty on a miss or if the cache is disabled
+     */
+    public Optional<CachedResponse> get(Object key) {
+        return cache.map(entries -> entries.getIfPresent(key));
+    }
+
+    /**
+     * Caches {@code body} of the endpoint at {@code path} under {@code key}, if the cache is enabled. All
+     * {@link CachedGreeting} endpoints greet the same way, so they share the entries.
+     *
+     * @return {@code body} with its entity tag
+     */
+    public CachedResponse put(String path, Object key, byte[] body) {
+        CachedResponse response = new CachedResponse(body, EntityTags.etag(body));
+        cache.ifPresent(entries -> {
+            entries.put(key, response);
+            paths.add(path);
+        });
+        return response;
+    }
+
+    static Object key(String name) {
+        return name == null ? ABSENT : name;
+    }
+}
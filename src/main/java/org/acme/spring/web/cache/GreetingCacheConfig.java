@@ -0,0 +1,28 @@
+package org.acme.spring.web.cache;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "greeting.cache")
+public interface GreetingCacheConfig {
+
+    /**
+     * Whether {@link CachedGreeting} endpoints are served from the cache.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Maximum number of cached responses, one per distinct {@code name}.
+     */
+    @WithDefault("10000")
+    long maximumSize();
+
+    /**
+     * How long a response is kept after it has been cached.
+     */
+    @WithDefault("10M")
+    Duration expireAfterWrite();
+}
@@ -0,0 +1,60 @@
+package org.acme.spring.web.cache;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.http.EntityTags;
+import org.acme.spring.web.json.GreetingJsonWriter;
+import org.acme.spring.web.phrase.GreetingPhrases;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Caches the responses of {@link CachedGreeting} endpoints, which {@link GreetingCacheRoute} then answers without
+ * invoking the endpoint again.
+ * <p>
+ * Every cached response carries an {@code ETag}; a matching {@code If-None-Match} is answered with 304 and no body,
+ * also on a miss. Only JSON responses are cached, those negotiated to a {@link org.acme.spring.web.binary.BinaryMediaType}
+ * are left alone.
+ */
+public class GreetingCacheFilter {
+    private static final MediaType JSON = MediaType.valueOf(GreetingCacheRoute.JSON);
+
+    private final GreetingCache cache;
+    private final GreetingJsonWriter writer;
+
+    public GreetingCacheFilter(GreetingCache cache, GreetingPhrases phrases) {
+        this.cache = cache;
+        this.writer = new GreetingJsonWriter(phrases);
+    }
+
+    @ServerResponseFilter
+    @CachedGreeting
+    public void cacheResponse(HttpServerRequest serverRequest, ContainerRequestContext request, ContainerResponseContext response) {
+        if (!cache.isEnabled() || response.getStatus() != Response.Status.OK.getStatusCode()
+                || !(response.getEntity() instanceof Greeting greeting)
+                || response.getMediaType() != null && !JSON.isCompatible(response.getMediaType())) {
+            // only JSON is cached, binary formats are encoded for every request
+            return;
+        }
+        Object key = GreetingCache.key(request.getUriInfo().getQueryParameters().getFirst("name"));
+        String path = serverRequest.path();
+        if (!cache.isCachedPath(path)) {
+            // GreetingCacheRoute does not know the path yet and has not looked up, count the miss here
+            cache.get(key);
+        }
+        CachedResponse cached = cache.put(path, key, writer.toJson(greeting));
+        response.getHeaders().putSingle(HttpHeaders.ETAG, cached.etag());
+        if (EntityTags.isNotModified(request.getHeaderString(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+            response.setEntity(null);
+        } else {
+            response.setEntity(cached.body(), response.getEntityAnnotations(), JSON);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.acme.spring.web.cache;
+
+import java.util.Optional;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.acme.spring.web.binary.BinaryMediaType;
+import org.acme.spring.web.http.EntityTags;
+import org.acme.spring.web.limit.RateLimited;
+import org.acme.spring.web.limit.RateLimits;
+
+import io.quarkus.vertx.http.runtime.RouteConstants;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Answers the hits of {@link GreetingCache} on the Vert.x router, in front of Quarkus REST, so a hit costs neither
+ * resource matching, parameter conversion nor the filter and writer chains; {@code If-None-Match} is answered with 304
+ * without looking at the body at all.
+ * <p>
+ * Which paths are served is learned from the responses {@link GreetingCacheFilter} caches, so only requests that
+ * would reach a {@link CachedGreeting} endpoint are answered here. Everything else, including every miss and requests
+ * that might negotiate a binary format or do not accept JSON, continues to Quarkus REST.
+ * <p>
+ * A hit takes a token of the client's bucket of the {@link RateLimited#GREETING} group, which all cached endpoints
+ * belong to, so that the cache does not lift the rate limit; a miss takes it in Quarkus REST.
+ * <p>
+ * Nothing else of Quarkus REST sees a hit: it is neither timed by the
+ * {@link org.acme.spring.web.metrics.EndpointMetered} metrics nor recorded as an
+ * {@link org.acme.spring.web.metrics.EndpointRequestEvent}, and does not count against the
+ * {@link org.acme.spring.web.limit.ConcurrencyLimited} limits. Only {@code cache_gets_total} counts the hits, the
+ * endpoint metrics describe the misses alone.
+ */
+@Singleton
+public class GreetingCacheRoute {
+    static final String JSON = "application/json;charset=UTF-8";
+
+    private final GreetingCache cache;
+    private final RateLimits rateLimits;
+
+    public GreetingCacheRoute(GreetingCache cache, RateLimits rateLimits) {
+        this.cache = cache;
+        this.rateLimits = rateLimits;
+    }
+
+    void register(@Observes Router router) {
+        if (cache.isEnabled()) {
+            router.get().order(RouteConstants.ROUTE_ORDER_BEFORE_DEFAULT).handler(this::serveCached);
+        }
+    }
+
+    private void serveCached(RoutingContext context) {
+        HttpServerRequest request = context.request();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (!cache.isCachedPath(request.path()) || BinaryMediaType.isAccepted(accept) || !acceptsJson(accept)) {
+            context.next();
+            return;
+        }
+        Optional<CachedResponse> cached = cache.get(GreetingCache.key(request.getParam("name")));
+        if (cached.isEmpty()) {
+            context.next();
+            return;
+        }
+        if (rateLimits.isEnabled()) {
+            long retryAfter = rateLimits.tryAcquire(RateLimited.GREETING, request);
+            if (retryAfter > 0) {
+                context.response().setStatusCode(429).putHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter)).end();
+                return;
+            }
+        }
+        CachedResponse response = cached.get();
+        HttpServerResponse serverResponse = context.response().putHeader(HttpHeaders.ETAG, response.etag());
+        if (EntityTags.isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), response.etag())) {
+            serverResponse.setStatusCode(304).end();
+        } else {
+            serverResponse.putHeader(HttpHeaders.CONTENT_TYPE, JSON).end(Buffer.buffer(response.body()));
+        }
+    }
+
+    /**
+     * @return whether {@code accept} is missing or lets JSON through, a range with {@code q=0} does not; anything this
+     *         cannot tell is left to the content negotiation of Quarkus REST
+     */
+    static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        for (String range : accept.split(",")) {
+            String[] parts = range.split(";");
+            String type = parts[0].strip();
+            if ((type.equals("*/*") || type.equalsIgnoreCase("application/*") || type.equalsIgnoreCase("application/json"))
+                    && !isExcluded(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isExcluded(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].strip();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
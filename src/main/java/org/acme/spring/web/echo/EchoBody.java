@@ -0,0 +1,55 @@
+package org.acme.spring.web.echo;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Consumes the body of the {@code POST} echo route, which is not echoed, as it arrives: through one small buffer,
+ * without ever holding the body, so a large or slow upload costs the same memory as a small one. Quarkus REST pauses
+ * the connection while the buffer is full, the client uploads no faster than the body is consumed.
+ */
+@Singleton
+public class EchoBody {
+    static final int BUFFER_SIZE = 8 * 1024;
+
+    private final long maxSize;
+
+    public EchoBody(EchoBodyConfig config) {
+        this.maxSize = config.maxSize().asLongValue();
+    }
+
+    /**
+     * A body declaring a larger {@code Content-Length} than the maximum size is rejected before any of it is read, a
+     * chunked one as soon as it has grown larger.
+     *
+     * @param body read on a worker thread, never on the event loop
+     * @return the size of the body
+     * @throws WebApplicationException 413 when the body is larger than the maximum size
+     */
+    public long consume(HttpServerRequest request, InputStream body) throws IOException {
+        String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null && Long.parseLong(contentLength) > maxSize) {
+            throw tooLarge();
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+        for (int read; (read = body.read(buffer)) >= 0;) {
+            size += read;
+            if (size > maxSize) {
+                throw tooLarge();
+            }
+        }
+        return size;
+    }
+
+    private static WebApplicationException tooLarge() {
+        return new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
+    }
+}
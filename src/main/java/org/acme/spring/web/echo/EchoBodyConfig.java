@@ -0,0 +1,16 @@
+package org.acme.spring.web.echo;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "echo.body")
+public interface EchoBodyConfig {
+
+    /**
+     * Maximum size of the body of the {@code POST} echo route, larger bodies are answered with 413. Bodies are also
+     * limited by {@code quarkus.http.limits.max-body-size}, which has to be raised for this limit to be higher.
+     */
+    @WithDefault("10M")
+    MemorySize maxSize();
+}
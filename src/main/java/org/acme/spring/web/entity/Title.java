@@ -1,5 +1,80 @@
 package org.acme.spring.web.entity;
 
+import java.util.Optional;
+
 public enum Title {
-    MR, MRS, SIR, SIGNORA
+    MR, MRS, SIR, SIGNORA;
+
+    private static final Optional<Title>[] FOUND = found();
+
+    /**
+     * Case-sensitive lookup by constant name, like {@link #valueOf(String)} but without allocating and without
+     * throwing on unknown input: dispatches on length and first character, then compares the remaining characters.
+     *
+     * @return the title named {@code value}, empty for anything else including {@code null}
+     */
+    public static Optional<Title> lookup(CharSequence value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        return lookup(value, 0, value.length());
+    }
+
+    /**
+     * Same as {@link #lookup(CharSequence)} for {@code length} characters of {@code value}, e.g. a parameter within
+     * a raw query string.
+     */
+    public static Optional<Title> lookup(CharSequence value, int offset, int length) {
+        Title candidate = candidate(length, length > 0 ? value.charAt(offset) : 0);
+        if (candidate == null) {
+            return Optional.empty();
+        }
+        String name = candidate.name();
+        for (int i = 1; i < length; i++) {
+            if (value.charAt(offset + i) != name.charAt(i)) {
+                return Optional.empty();
+            }
+        }
+        return FOUND[candidate.ordinal()];
+    }
+
+    /**
+     * Same as {@link #lookup(CharSequence)} for raw US-ASCII bytes, e.g. straight out of a request buffer.
+     */
+    public static Optional<Title> lookup(byte[] bytes, int offset, int length) {
+        Title candidate = candidate(length, length > 0 ? bytes[offset] : 0);
+        if (candidate == null) {
+            return Optional.empty();
+        }
+        String name = candidate.name();
+        for (int i = 1; i < length; i++) {
+            if (bytes[offset + i] != name.charAt(i)) {
+                return Optional.empty();
+            }
+        }
+        return FOUND[candidate.ordinal()];
+    }
+
+    private static Title candidate(int length, int first) {
+        return switch (length) {
+            case 2 -> first == 'M' ? MR : null;
+            case 3 -> switch (first) {
+                case 'M' -> MRS;
+                case 'S' -> SIR;
+                default -> null;
+            };
+            case 7 -> first == 'S' ? SIGNORA : null;
+            default -> null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<Title>[] found() {
+        Title[] values = values();
+        Optional<Title>[] found = new Optional[values.length];
+        for (Title title : values) {
+            found[title.ordinal()] = Optional.of(title);
+        }
+        return found;
+    }
 }
@@ -0,0 +1,40 @@
+package org.acme.spring.web.entity;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.ext.ParamConverter;
+import jakarta.ws.rs.ext.ParamConverterProvider;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Converts {@code title} parameters with {@link Title#lookup(CharSequence)}, instead of {@link Title#valueOf(String)}
+ * whose {@link IllegalArgumentException}, stack trace included, Quarkus REST turns into a 404. An unknown title is
+ * answered with the 400 of {@link UnknownTitleException}, for the Spring Web and the Jakarta REST routes alike.
+ * <p>
+ * A converter can only return a title or throw, {@code null} binds as a missing title, so an unknown one is thrown.
+ * The {@code PreValidated} routes answer unknown titles before binding, without an exception.
+ */
+@Provider
+public class TitleParamConverterProvider implements ParamConverterProvider {
+    private static final ParamConverter<Title> CONVERTER = new ParamConverter<>() {
+        @Override
+        public Title fromString(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("value must not be null");
+            }
+            return Title.lookup(value).orElseThrow(UnknownTitleException::new);
+        }
+
+        @Override
+        public String toString(Title title) {
+            return title.name();
+        }
+    };
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ParamConverter<T> getConverter(Class<T> rawType, Type genericType, Annotation[] annotations) {
+        return rawType == Title.class ? (ParamConverter<T>) CONVERTER : null;
+    }
+}
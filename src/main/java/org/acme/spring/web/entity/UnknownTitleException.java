@@ -0,0 +1,33 @@
+package org.acme.spring.web.entity;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * A {@code title} parameter that is not a {@link Title}, answered with 400 and a message naming the known titles.
+ * Without stack trace: scanners send unknown titles by the thousand, and the trace would tell nothing anyway.
+ */
+public class UnknownTitleException extends BadRequestException {
+    public static final String MESSAGE = "unknown title, expected one of "
+            + Arrays.stream(Title.values()).map(Title::name).collect(Collectors.joining(", "));
+
+    public UnknownTitleException() {
+        super(MESSAGE, response());
+    }
+
+    /**
+     * The response to an unknown title, also sent by the pre-validation without throwing.
+     */
+    public static Response response() {
+        return Response.status(Response.Status.BAD_REQUEST).type(MediaType.TEXT_PLAIN_TYPE).entity(MESSAGE).build();
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
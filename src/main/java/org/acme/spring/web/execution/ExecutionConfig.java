@@ -0,0 +1,22 @@
+package org.acme.spring.web.execution;
+
+import java.util.Map;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "execution")
+public interface ExecutionConfig {
+
+    /**
+     * Mode of the groups without an entry in {@link #group()}; {@code worker} is what Quarkus REST would pick
+     * without {@link ExecutionGroup}.
+     */
+    @WithDefault("worker")
+    ExecutionMode defaultMode();
+
+    /**
+     * Mode per {@link ExecutionGroup}, e.g. {@code execution.group.validated=virtual-thread}.
+     */
+    Map<String, ExecutionMode> group();
+}
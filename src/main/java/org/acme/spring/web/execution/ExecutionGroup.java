@@ -0,0 +1,31 @@
+package org.acme.spring.web.execution;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.NameBinding;
+
+/**
+ * Runs the annotated endpoints with the {@link ExecutionMode} configured for their group as
+ * {@code execution.group."<name>"}.
+ * <p>
+ * The endpoints must be {@code @NonBlocking}: {@link ExecutionModeFilter} is the one that moves them off the event
+ * loop, a {@code @Blocking} endpoint would already be on a worker thread when it runs. Endpoints with a request body
+ * cannot be grouped: Quarkus REST moves {@code @NonBlocking} endpoints back to the event loop once their body has been
+ * read, whatever thread they were on before.
+ */
+@NameBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExecutionGroup {
+    String GREETING = "greeting";
+    String ECHO = "echo";
+    String VALIDATED = "validated";
+
+    /**
+     * Name of the group, empty on the filter binding itself.
+     */
+    String value() default "";
+}
@@ -0,0 +1,37 @@
+package org.acme.spring.web.execution;
+
+import java.util.concurrent.Executor;
+
+import io.quarkus.runtime.ExecutorRecorder;
+import io.quarkus.virtual.threads.VirtualThreadsRecorder;
+
+/**
+ * Thread an {@link ExecutionGroup} endpoint runs on, configured as {@code event-loop}, {@code worker} or
+ * {@code virtual-thread}.
+ */
+public enum ExecutionMode {
+    /**
+     * Stays on the Vert.x event loop that received the request, like a {@code @NonBlocking} endpoint.
+     */
+    EVENT_LOOP,
+    /**
+     * Quarkus' worker pool, like a {@code @Blocking} endpoint and what Quarkus REST picks for endpoints with
+     * non-reactive return types.
+     */
+    WORKER,
+    /**
+     * A new virtual thread per request, like a {@code @RunOnVirtualThread} endpoint.
+     */
+    VIRTUAL_THREAD;
+
+    /**
+     * @return the executor Quarkus REST itself uses for this mode, {@code null} for {@link #EVENT_LOOP}
+     */
+    Executor executor() {
+        return switch (this) {
+            case EVENT_LOOP -> null;
+            case WORKER -> ExecutorRecorder.getCurrent();
+            case VIRTUAL_THREAD -> VirtualThreadsRecorder.getCurrent();
+        };
+    }
+}
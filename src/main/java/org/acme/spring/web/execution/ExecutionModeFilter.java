@@ -0,0 +1,53 @@
+package org.acme.spring.web.execution;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import jakarta.ws.rs.container.ResourceInfo;
+
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
+
+/**
+ * Moves the rest of the request processing of {@link ExecutionGroup} endpoints, the other filters, parameter
+ * conversion, reading the body, validation and the invocation, to the executor of their {@link ExecutionMode},
+ * exactly like Quarkus REST's own blocking handler does for {@code @Blocking} and {@code @RunOnVirtualThread}.
+ */
+public class ExecutionModeFilter {
+    private final ExecutionConfig config;
+    private final ConcurrentMap<Method, ExecutionMode> modes = new ConcurrentHashMap<>();
+
+    public ExecutionModeFilter(ExecutionConfig config) {
+        this.config = config;
+    }
+
+    @ServerRequestFilter(nonBlocking = true)
+    @ExecutionGroup
+    public void dispatch(ResteasyReactiveContainerRequestContext request, ResourceInfo resource) {
+        Executor executor = mode(resource.getResourceMethod()).executor();
+        if (executor != null) {
+            ResteasyReactiveRequestContext context = (ResteasyReactiveRequestContext) request.getServerRequestContext();
+            context.suspend();
+            context.resume(executor);
+        }
+    }
+
+    ExecutionMode mode(Method method) {
+        ExecutionMode mode = modes.get(method);
+        if (mode == null) {
+            mode = modes.computeIfAbsent(method, this::configuredMode);
+        }
+        return mode;
+    }
+
+    private ExecutionMode configuredMode(Method method) {
+        ExecutionGroup group = method.getAnnotation(ExecutionGroup.class);
+        if (group == null) {
+            group = method.getDeclaringClass().getAnnotation(ExecutionGroup.class);
+        }
+        return group == null ? config.defaultMode() : config.group().getOrDefault(group.value(), config.defaultMode());
+    }
+}
@@ -0,0 +1,19 @@
+package org.acme.spring.web.execution;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.NameBinding;
+
+/**
+ * Reads the body of {@code GET} requests to the annotated endpoints without blocking, which Quarkus REST only does for
+ * the other methods: it reads a {@code GET} body when the parameter is converted, blocking the thread, so that
+ * {@code @NonBlocking} endpoints with a {@code GET} body fail on the event loop. {@link GetBodyFilter} reads it first.
+ */
+@NameBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GetBody {
+}
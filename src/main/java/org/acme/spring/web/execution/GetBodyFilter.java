@@ -0,0 +1,86 @@
+package org.acme.spring.web.execution;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Reads the {@code GET} body of {@link GetBody} endpoints on the event loop and hands it to the request as input
+ * stream that never blocks. Like Quarkus REST does for other methods, the body is limited to
+ * {@code quarkus.http.limits.max-body-size}: a larger {@code Content-Length} is answered with 413 before reading, a
+ * chunked body as soon as it has grown larger, without holding more than the limit.
+ */
+public class GetBodyFilter {
+    private static final Uni<Response> CONTINUE = Uni.createFrom().nullItem();
+
+    private final long maxBodySize;
+
+    public GetBodyFilter(@ConfigProperty(name = "quarkus.http.limits.max-body-size", defaultValue = "10240K") MemorySize maxBodySize) {
+        this.maxBodySize = maxBodySize.asLongValue();
+    }
+
+    @ServerRequestFilter(nonBlocking = true)
+    @GetBody
+    public Uni<Response> read(ResteasyReactiveContainerRequestContext request, HttpServerRequest serverRequest,
+            RoutingContext routingContext) {
+        ResteasyReactiveRequestContext context = (ResteasyReactiveRequestContext) request.getServerRequestContext();
+        if (serverRequest.method() != HttpMethod.GET || context.hasInputStream()) {
+            return CONTINUE;
+        }
+        if (serverRequest.isEnded()) {
+            context.setInputStream(new ByteArrayInputStream(new byte[0]));
+            return CONTINUE;
+        }
+        String contentLength = serverRequest.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null && Long.parseLong(contentLength) > maxBodySize) {
+            return Uni.createFrom().item(tooLarge(serverRequest, routingContext));
+        }
+        CompletableFuture<Response> read = new CompletableFuture<>();
+        Buffer body = Buffer.buffer();
+        serverRequest.handler(chunk -> {
+            if (read.isDone()) {
+                return;
+            }
+            if (body.length() + (long) chunk.length() > maxBodySize) {
+                read.complete(tooLarge(serverRequest, routingContext));
+            } else {
+                body.appendBuffer(chunk);
+            }
+        });
+        serverRequest.exceptionHandler(read::completeExceptionally);
+        serverRequest.endHandler(ignored -> {
+            if (!read.isDone()) {
+                context.setInputStream(new ByteArrayInputStream(body.getBytes()));
+                read.complete(null);
+            }
+        });
+        serverRequest.resume();
+        return Uni.createFrom().completionStage(read);
+    }
+
+    /**
+     * The rest of the body is dropped as it arrives; over HTTP/1 the connection is closed once the response is sent,
+     * instead of reading it to its end.
+     */
+    private static Response tooLarge(HttpServerRequest serverRequest, RoutingContext routingContext) {
+        if (serverRequest.version() != HttpVersion.HTTP_2) {
+            routingContext.addEndHandler(ignored -> serverRequest.connection().close());
+        }
+        return Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE).build();
+    }
+}
@@ -0,0 +1,44 @@
+package org.acme.spring.web.http;
+
+import java.util.zip.CRC32C;
+
+/**
+ * Strong {@code ETag}s of response bodies and their comparison with {@code If-None-Match}, shared by the greeting cache
+ * and the OpenAPI files.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * The body determines the tag, so it stays stable across evictions and restarts.
+     */
+    public static String etag(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return '"' + Long.toHexString(body.length) + '-' + Long.toHexString(crc.getValue()) + '"';
+    }
+
+    /**
+     * Weak comparison as required for {@code If-None-Match}: {@code *} or any listed tag, with or without {@code W/}.
+     */
+    public static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        if (ifNoneMatch.equals(etag)) {
+            return true;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.strip();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
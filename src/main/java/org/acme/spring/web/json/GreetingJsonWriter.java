@@ -0,0 +1,63 @@
+package org.acme.spring.web.json;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.phrase.GreetingPhrases;
+
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class GreetingJsonWriter extends PreEncodedJsonWriter<Greeting> {
+    private static final byte[] PREFIX = JsonBytes.ascii("{\"phrase\":");
+    private static final byte[] SUFFIX = JsonBytes.ascii("}");
+
+    private final GreetingPhrases phrases;
+
+    public GreetingJsonWriter() {
+        this(new GreetingPhrases(List.of(), 0));
+    }
+
+    /**
+     * The documents of the greetings known to {@code phrases} are taken from there instead of being written again.
+     */
+    @Inject
+    public GreetingJsonWriter(GreetingPhrases phrases) {
+        super(Greeting.class);
+        this.phrases = phrases;
+    }
+
+    @Override
+    public byte[] toJson(Greeting greeting) {
+        byte[] json = phrases.json(greeting);
+        return json != null ? json : encode(greeting);
+    }
+
+    public static byte[] encode(Greeting greeting) {
+        byte[] json = new byte[length(greeting)];
+        write(greeting, json, 0);
+        return json;
+    }
+
+    /**
+     * @return the number of bytes {@link #write(Greeting, byte[], int)} writes
+     */
+    public static int length(Greeting greeting) {
+        return PREFIX.length + JsonBytes.stringLength(greeting.phrase()) + SUFFIX.length;
+    }
+
+    /**
+     * Writes {@code greeting} into {@code target}, e.g. next to other greetings.
+     *
+     * @return the offset after the written JSON
+     */
+    public static int write(Greeting greeting, byte[] target, int offset) {
+        offset = JsonBytes.write(PREFIX, target, offset);
+        offset = JsonBytes.writeString(greeting.phrase(), target, offset);
+        return JsonBytes.write(SUFFIX, target, offset);
+    }
+}
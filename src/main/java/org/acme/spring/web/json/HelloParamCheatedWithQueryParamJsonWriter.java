@@ -0,0 +1,21 @@
+package org.acme.spring.web.json;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class HelloParamCheatedWithQueryParamJsonWriter extends PreEncodedJsonWriter<HelloParamCheatedWithQueryParam> {
+
+    public HelloParamCheatedWithQueryParamJsonWriter() {
+        super(HelloParamCheatedWithQueryParam.class);
+    }
+
+    @Override
+    public byte[] toJson(HelloParamCheatedWithQueryParam param) {
+        return HelloParamJsonWriter.toJson(param.getTitle(), param.getName(), param.getSuffix());
+    }
+}
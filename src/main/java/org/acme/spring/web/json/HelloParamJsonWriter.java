@@ -0,0 +1,54 @@
+package org.acme.spring.web.json;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import org.acme.spring.web.entity.HelloParam;
+import org.acme.spring.web.entity.Title;
+
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class HelloParamJsonWriter extends PreEncodedJsonWriter<HelloParam> {
+    private static final byte[] TITLE = JsonBytes.ascii("{\"title\":");
+    private static final byte[] NAME = JsonBytes.ascii(",\"name\":");
+    private static final byte[] SUFFIX = JsonBytes.ascii(",\"suffix\":");
+    private static final byte[] END = JsonBytes.ascii("}");
+    private static final byte[][] TITLES = titles();
+
+    public HelloParamJsonWriter() {
+        super(HelloParam.class);
+    }
+
+    @Override
+    public byte[] toJson(HelloParam param) {
+        return toJson(param.getTitle(), param.getName(), param.getSuffix());
+    }
+
+    /**
+     * Shared with {@link HelloParamCheatedWithQueryParamJsonWriter}, both DTOs have the same properties in the same
+     * order.
+     */
+    static byte[] toJson(Title title, String name, String suffix) {
+        byte[] encodedTitle = title == null ? JsonBytes.NULL : TITLES[title.ordinal()];
+        byte[] json = new byte[TITLE.length + encodedTitle.length + NAME.length + JsonBytes.stringLength(name)
+                + SUFFIX.length + JsonBytes.stringLength(suffix) + END.length];
+        int offset = JsonBytes.write(TITLE, json, 0);
+        offset = JsonBytes.write(encodedTitle, json, offset);
+        offset = JsonBytes.write(NAME, json, offset);
+        offset = JsonBytes.writeString(name, json, offset);
+        offset = JsonBytes.write(SUFFIX, json, offset);
+        offset = JsonBytes.writeString(suffix, json, offset);
+        JsonBytes.write(END, json, offset);
+        return json;
+    }
+
+    private static byte[][] titles() {
+        Title[] values = Title.values();
+        byte[][] titles = new byte[values.length][];
+        for (Title title : values) {
+            titles[title.ordinal()] = JsonBytes.ascii("\"" + title.name() + "\"");
+        }
+        return titles;
+    }
+}
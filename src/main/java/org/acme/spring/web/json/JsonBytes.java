@@ -0,0 +1,124 @@
+package org.acme.spring.web.json;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoding of JSON strings straight into a byte array, escaping exactly like Jackson does by default: quote,
+ * backslash and control characters, the latter with the short escapes where JSON has them and {@code \}{@code u00XX}
+ * otherwise. Surrogates are escaped one by one as well, Jackson's UTF-8 generator does not combine them into four
+ * byte sequences. Everything else, including other non-ASCII, is written as is.
+ */
+public final class JsonBytes {
+    public static final byte[] NULL = ascii("null");
+
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+    private JsonBytes() {
+    }
+
+    public static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @return the number of bytes {@link #writeString(CharSequence, byte[], int)} writes for {@code value}
+     */
+    public static int stringLength(CharSequence value) {
+        return value == null ? NULL.length : escapedLength(value) + 2;
+    }
+
+    /**
+     * Writes {@code value} as quoted JSON string, or {@code null}.
+     *
+     * @return the offset after the last written byte
+     */
+    public static int writeString(CharSequence value, byte[] target, int offset) {
+        if (value == null) {
+            return write(NULL, target, offset);
+        }
+        target[offset++] = '"';
+        offset = writeEscaped(value, target, offset);
+        target[offset++] = '"';
+        return offset;
+    }
+
+    /**
+     * @return the number of bytes {@link #writeEscaped(CharSequence, byte[], int)} writes for {@code value}
+     */
+    public static int escapedLength(CharSequence value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += c < 0x20 ? (shortEscape(c) != 0 ? 2 : 6) : (c == '"' || c == '\\' ? 2 : 1);
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                length += 6;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes the escaped content of {@code value}, without quotes.
+     *
+     * @return the offset after the last written byte
+     */
+    public static int writeEscaped(CharSequence value, byte[] target, int offset) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    target[offset++] = (byte) c;
+                } else if (c >= 0x20) {
+                    target[offset++] = '\\';
+                    target[offset++] = (byte) c;
+                } else if (shortEscape(c) != 0) {
+                    target[offset++] = '\\';
+                    target[offset++] = shortEscape(c);
+                } else {
+                    offset = writeUnicodeEscape(c, target, offset);
+                }
+            } else if (c < 0x800) {
+                target[offset++] = (byte) (0xC0 | (c >> 6));
+                target[offset++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                offset = writeUnicodeEscape(c, target, offset);
+            } else {
+                target[offset++] = (byte) (0xE0 | (c >> 12));
+                target[offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[offset++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return offset;
+    }
+
+    private static int writeUnicodeEscape(char c, byte[] target, int offset) {
+        target[offset++] = '\\';
+        target[offset++] = 'u';
+        target[offset++] = HEX[c >> 12];
+        target[offset++] = HEX[(c >> 8) & 0xF];
+        target[offset++] = HEX[(c >> 4) & 0xF];
+        target[offset++] = HEX[c & 0xF];
+        return offset;
+    }
+
+    public static int write(byte[] fragment, byte[] target, int offset) {
+        System.arraycopy(fragment, 0, target, offset, fragment.length);
+        return offset + fragment.length;
+    }
+
+    private static byte shortEscape(char c) {
+        return switch (c) {
+            case '\b' -> 'b';
+            case '\t' -> 't';
+            case '\n' -> 'n';
+            case '\f' -> 'f';
+            case '\r' -> 'r';
+            default -> 0;
+        };
+    }
+}
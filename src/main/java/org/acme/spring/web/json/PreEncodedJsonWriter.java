@@ -0,0 +1,56 @@
+package org.acme.spring.web.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+/**
+ * Base of the JSON writers that replace Jackson for the response types of the endpoints: the document is assembled
+ * from pre-encoded UTF-8 fragments and the escaped values into one exactly sized array, which is handed to the
+ * response as is.
+ * <p>
+ * Subclasses must produce the same bytes as Jackson would, so the JSON API does not change.
+ */
+public abstract class PreEncodedJsonWriter<T> implements ServerMessageBodyWriter<T> {
+    private final Class<T> type;
+
+    protected PreEncodedJsonWriter(Class<T> type) {
+        this.type = type;
+    }
+
+    public abstract byte[] toJson(T value);
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return isWriteable(type, mediaType);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isWriteable(type, mediaType);
+    }
+
+    private boolean isWriteable(Class<?> type, MediaType mediaType) {
+        // subclasses might have more properties
+        return this.type == type && (mediaType == null || MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType));
+    }
+
+    @Override
+    public void writeResponse(T value, Type genericType, ServerRequestContext context) {
+        context.serverResponse().end(toJson(value));
+    }
+
+    @Override
+    public void writeTo(T value, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        entityStream.write(toJson(value));
+    }
+}
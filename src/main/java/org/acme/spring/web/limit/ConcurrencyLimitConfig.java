@@ -0,0 +1,60 @@
+package org.acme.spring.web.limit;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "concurrency.limit")
+public interface ConcurrencyLimitConfig {
+
+    /**
+     * Whether the {@link ConcurrencyLimited} endpoints reject requests over their limit.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Limit of each endpoint before any request has been measured.
+     */
+    @WithDefault("20")
+    int initialLimit();
+
+    /**
+     * The limit never goes below, however slow the requests get.
+     */
+    @WithDefault("2")
+    int minLimit();
+
+    /**
+     * The limit never goes above, however fast the requests are.
+     */
+    @WithDefault("200")
+    int maxLimit();
+
+    /**
+     * How much slower than usual the recent requests may be before the limit shrinks, as a factor of the long term
+     * latency.
+     */
+    @WithDefault("1.5")
+    double tolerance();
+
+    /**
+     * Weight of each new limit computed from a request against the current one, between 0 and 1.
+     */
+    @WithDefault("0.2")
+    double smoothing();
+
+    /**
+     * The requests completing within this time adjust the limit once, with their mean latency. The limit of a busy
+     * endpoint is updated at most once per window instead of by every request.
+     */
+    @WithDefault("10ms")
+    Duration window();
+
+    /**
+     * Sent in the {@code Retry-After} header of rejected requests, rounded up to seconds.
+     */
+    @WithDefault("1s")
+    Duration retryAfter();
+}
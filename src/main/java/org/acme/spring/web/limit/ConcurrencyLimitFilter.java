@@ -0,0 +1,39 @@
+package org.acme.spring.web.limit;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
+
+/**
+ * Admits the requests to {@link ConcurrencyLimited} endpoints, on the event loop before the body is read or the
+ * request moves to a worker thread, so that a rejection costs next to nothing. Requests the
+ * {@link org.acme.spring.web.validation.PreValidationFilter} or the {@link RateLimitFilter} rejects never take a place. An admitted request is
+ * released once its response has ended, its latency adjusts the limit.
+ */
+public class ConcurrencyLimitFilter {
+    private final ConcurrencyLimits limits;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimits limits) {
+        this.limits = limits;
+    }
+
+    @ServerRequestFilter(nonBlocking = true, priority = Integer.MIN_VALUE + 3)
+    @ConcurrencyLimited
+    public Response admit(ResteasyReactiveContainerRequestContext request) {
+        if (!limits.isEnabled()) {
+            return null;
+        }
+        ResteasyReactiveRequestContext context = (ResteasyReactiveRequestContext) request.getServerRequestContext();
+        ConcurrencyLimiter limiter = limits.limiter(context.getTarget());
+        if (!limiter.tryAcquire()) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, limits.retryAfter())
+                    .build();
+        }
+        long start = System.nanoTime();
+        context.registerCompletionCallback(failure -> limiter.release(start, System.nanoTime()));
+        return null;
+    }
+}
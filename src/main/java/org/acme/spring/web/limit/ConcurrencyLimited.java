@@ -0,0 +1,18 @@
+package org.acme.spring.web.limit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.NameBinding;
+
+/**
+ * Limits the number of concurrent requests to each of the annotated endpoints when {@link ConcurrencyLimits} is
+ * enabled, answering the requests over the limit with 503 right away.
+ */
+@NameBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+}
@@ -0,0 +1,52 @@
+package org.acme.spring.web.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The requests in flight to one endpoint, admitted up to its {@link GradientLimit}.
+ */
+public final class ConcurrencyLimiter {
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimiter(GradientLimit limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * @return whether the request may run, in which case it must {@link #release(long, long)} once done
+     */
+    public boolean tryAcquire() {
+        for (int current = inFlight.get(); current < limit.get(); current = inFlight.get()) {
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Ends an admitted request that started at {@code start}.
+     *
+     * @param start {@link System#nanoTime()} when the request was admitted
+     * @param now {@link System#nanoTime()}
+     */
+    public void release(long start, long now) {
+        limit.sample(now - start, inFlight.getAndDecrement(), now);
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+}
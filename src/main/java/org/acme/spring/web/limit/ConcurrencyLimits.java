@@ -0,0 +1,73 @@
+package org.acme.spring.web.limit;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * One {@link ConcurrencyLimiter} per {@link ConcurrencyLimited} endpoint, created on its first request and published
+ * as {@code concurrency.limit}, {@code concurrency.in.flight} and {@code concurrency.rejected}, tagged with
+ * {@code endpoint} like the {@link org.acme.spring.web.metrics.EndpointMetrics}.
+ */
+@Singleton
+public class ConcurrencyLimits {
+    private final ConcurrencyLimitConfig config;
+    private final MeterRegistry registry;
+    private final String retryAfter;
+    private final ConcurrentMap<RuntimeResource, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimits(ConcurrencyLimitConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.registry = registry;
+        this.retryAfter = Long.toString(Math.max(1, (config.retryAfter().toMillis() + 999) / 1000));
+        if (config.enabled()) {
+            // fail at startup rather than on the first request
+            limit();
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    /**
+     * @return the value of the {@code Retry-After} header of rejected requests, in seconds
+     */
+    public String retryAfter() {
+        return retryAfter;
+    }
+
+    ConcurrencyLimiter limiter(RuntimeResource resource) {
+        ConcurrencyLimiter limiter = limiters.get(resource);
+        if (limiter == null) {
+            limiter = limiters.computeIfAbsent(resource, this::register);
+        }
+        return limiter;
+    }
+
+    private ConcurrencyLimiter register(RuntimeResource resource) {
+        Method method = resource.getLazyMethod().getResourceMethod();
+        String endpoint = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(limit());
+        Gauge.builder("concurrency.limit", limiter, ConcurrencyLimiter::limit)
+                .description("Maximum number of concurrent requests to an endpoint").tag("endpoint", endpoint).register(registry);
+        Gauge.builder("concurrency.in.flight", limiter, ConcurrencyLimiter::inFlight)
+                .description("Requests to an endpoint currently running").tag("endpoint", endpoint).register(registry);
+        FunctionCounter.builder("concurrency.rejected", limiter, ConcurrencyLimiter::rejected)
+                .description("Requests to an endpoint rejected over its limit").tag("endpoint", endpoint).register(registry);
+        return limiter;
+    }
+
+    private GradientLimit limit() {
+        return new GradientLimit(config.initialLimit(), config.minLimit(), config.maxLimit(), config.tolerance(),
+                config.smoothing(), config.window().toNanos());
+    }
+}
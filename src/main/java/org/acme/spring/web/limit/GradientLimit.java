@@ -0,0 +1,141 @@
+package org.acme.spring.web.limit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limit driven by latency, after the gradient algorithm of Netflix' concurrency-limits: the
+ * ratio of the long term latency to the recent one tells whether requests queue up. Stable latency grows the limit
+ * by about its square root per request, latency rising above {@code tolerance} times the usual one shrinks it by up
+ * to half.
+ * <p>
+ * The completions are aggregated per {@code window} like the {@code WindowedLimit} of concurrency-limits does: each
+ * adds its latency to striped counters, and the first one after the window has passed takes their mean and the most
+ * requests in flight as one sample of the limit. Completions never wait for each other, the one that finds another
+ * updating the limit leaves its latency to the next window.
+ * <p>
+ * Both latencies are exponential moving averages, of the last ~{@value #SHORT_WINDOW} and ~{@value #LONG_WINDOW}
+ * samples, requests at low load. The limit only grows while at least half of it is in use, an endpoint that is not
+ * busy learns nothing about how busy it could be.
+ */
+public final class GradientLimit {
+    static final int SHORT_WINDOW = 10;
+    static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+    private final AtomicBoolean updating = new AtomicBoolean();
+    // only used by the completion holding updating
+    private final MovingAverage shortRtt = new MovingAverage(SHORT_WINDOW);
+    private final MovingAverage longRtt = new MovingAverage(LONG_WINDOW);
+    private double estimate;
+    private volatile long windowStart;
+    private volatile int limit;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing, long windowNanos) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limits must be 1 <= min <= max, got " + minLimit + " and " + maxLimit);
+        }
+        if (tolerance < 1.0 || smoothing <= 0.0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("tolerance must be >= 1 and smoothing in (0, 1], got " + tolerance + " and "
+                    + smoothing);
+        }
+        if (windowNanos < 0) {
+            throw new IllegalArgumentException("window must be >= 0, got " + windowNanos + "ns");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowNanos = windowNanos;
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimate;
+        // the first completion ends the first window
+        this.windowStart = System.nanoTime() - windowNanos;
+    }
+
+    public int get() {
+        return limit;
+    }
+
+    /**
+     * Records a request that took {@code rttNanos} while {@code inFlight} requests, itself included, were running, and
+     * adjusts the limit to the requests of the window if it has passed.
+     *
+     * @param now {@link System#nanoTime()}
+     */
+    public void sample(long rttNanos, int inFlight, long now) {
+        rttSum.add(rttNanos);
+        samples.increment();
+        maxInFlight.accumulate(inFlight);
+        if (now - windowStart < windowNanos || !updating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // another completion may have updated it between the check and the flag
+            if (now - windowStart < windowNanos) {
+                return;
+            }
+            long count = samples.sumThenReset();
+            if (count == 0) {
+                return;
+            }
+            // completions racing with the reset may count in the next window, which barely moves the mean
+            update((double) rttSum.sumThenReset() / count, (int) maxInFlight.getThenReset());
+            windowStart = now;
+        } finally {
+            updating.set(false);
+        }
+    }
+
+    private void update(double rttNanos, int inFlight) {
+        double shortTerm = shortRtt.add(rttNanos);
+        double longTerm = longRtt.add(rttNanos);
+        if (longTerm > 2 * shortTerm) {
+            // the load has dropped, forget the slow past faster
+            longRtt.scale(0.95);
+        }
+        if (inFlight < estimate / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longTerm / shortTerm));
+        double next = estimate * gradient + Math.sqrt(estimate);
+        next = estimate * (1 - smoothing) + next * smoothing;
+        estimate = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimate;
+    }
+
+    private static final class MovingAverage {
+        private final double alpha;
+        private final int warmup;
+        private int count;
+        private double value;
+
+        MovingAverage(int window) {
+            this.alpha = 2.0 / (window + 1);
+            this.warmup = window;
+        }
+
+        double add(double sample) {
+            if (count < warmup) {
+                // plain average until the window is full, the first sample alone says little
+                count++;
+                value += (sample - value) / count;
+            } else {
+                value += alpha * (sample - value);
+            }
+            return value;
+        }
+
+        void scale(double factor) {
+            value *= factor;
+        }
+    }
+}
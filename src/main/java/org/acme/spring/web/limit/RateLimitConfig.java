@@ -0,0 +1,57 @@
+package org.acme.spring.web.limit;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "rate.limit")
+public interface RateLimitConfig {
+
+    /**
+     * Whether the {@link RateLimited} endpoints reject the requests of clients over their rate.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Header identifying the client, e.g. {@code X-API-Key}. Requests without it, and all requests if none is set, are
+     * identified by their remote address.
+     */
+    Optional<String> clientHeader();
+
+    /**
+     * Requests per second of each client to the groups without a rate of their own.
+     */
+    @WithDefault("50")
+    double rate();
+
+    /**
+     * Requests a client may send at once, over the rate, after having been idle; for the groups without a burst of
+     * their own.
+     */
+    @WithDefault("100")
+    int burst();
+
+    /**
+     * Maximum number of clients whose buckets are kept per group, the least frequent ones are forgotten first. A
+     * forgotten client starts over with a full bucket.
+     */
+    @WithDefault("100000")
+    long maxClients();
+
+    /**
+     * Rate and burst per {@link RateLimited} group, e.g. {@code rate.limit.route.greeting.rate=200}.
+     */
+    Map<String, Route> route();
+
+    interface Route {
+
+        OptionalDouble rate();
+
+        OptionalInt burst();
+    }
+}
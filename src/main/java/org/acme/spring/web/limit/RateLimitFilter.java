@@ -0,0 +1,56 @@
+package org.acme.spring.web.limit;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Rejects the requests of clients over their rate to {@link RateLimited} endpoints, on the event loop before any other
+ * filter may reject them, so that a noisy client is held to its rate whatever it sends, and its rejected requests
+ * neither take a place of the {@link ConcurrencyLimitFilter} nor move to a worker thread.
+ */
+public class RateLimitFilter {
+    private final RateLimits limits;
+    private final ConcurrentMap<Method, String> groups = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimits limits) {
+        this.limits = limits;
+    }
+
+    @ServerRequestFilter(nonBlocking = true, priority = Integer.MIN_VALUE + 1)
+    @RateLimited
+    public Response limit(ResourceInfo resource, HttpServerRequest serverRequest) {
+        if (!limits.isEnabled()) {
+            return null;
+        }
+        long retryAfter = limits.tryAcquire(group(resource.getResourceMethod()), serverRequest);
+        if (retryAfter == 0) {
+            return null;
+        }
+        return Response.status(Response.Status.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, retryAfter).build();
+    }
+
+    private String group(Method method) {
+        String group = groups.get(method);
+        if (group == null) {
+            group = groups.computeIfAbsent(method, RateLimitFilter::annotatedGroup);
+        }
+        return group;
+    }
+
+    private static String annotatedGroup(Method method) {
+        RateLimited group = method.getAnnotation(RateLimited.class);
+        if (group == null) {
+            group = method.getDeclaringClass().getAnnotation(RateLimited.class);
+        }
+        return group.value();
+    }
+}
@@ -0,0 +1,26 @@
+package org.acme.spring.web.limit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.NameBinding;
+
+/**
+ * Limits the rate of each client's requests to the annotated endpoints when {@link RateLimits} is enabled, answering
+ * the requests over the rate with 429 right away. The endpoints of a group share the rate of each client, configured
+ * as {@code rate.limit.route."<name>"}, so a client cannot double it by alternating between the URL families.
+ */
+@NameBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    String GREETING = "greeting";
+    String ECHO = "echo";
+
+    /**
+     * Name of the group, empty on the filter binding itself.
+     */
+    String value() default "";
+}
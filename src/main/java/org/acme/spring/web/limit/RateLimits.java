@@ -0,0 +1,99 @@
+package org.acme.spring.web.limit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.net.SocketAddress;
+
+/**
+ * The {@link TokenBuckets} of each {@link RateLimited} group, created on the first request to one of its endpoints.
+ * The clients with a bucket are published as {@code rate.limit.clients} and the rejected requests as
+ * {@code rate.limit.rejected}, both tagged with {@code group}.
+ * <p>
+ * The client is the value of {@code rate.limit.client-header} if the request has one, its remote address otherwise;
+ * behind a proxy, {@code quarkus.http.proxy.proxy-address-forwarding} makes it the address the proxy forwarded.
+ */
+@Singleton
+public class RateLimits {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitConfig config;
+    private final MeterRegistry registry;
+    private final String clientHeader;
+    private final ConcurrentMap<String, Group> groups = new ConcurrentHashMap<>();
+
+    private record Group(TokenBuckets buckets, Counter rejected) {
+    }
+
+    /**
+     * A client identified by header, never equal to a remote address, so that no client can spend another's tokens.
+     */
+    private record Key(String value) {
+    }
+
+    public RateLimits(RateLimitConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.registry = registry;
+        this.clientHeader = config.clientHeader().orElse(null);
+        if (config.enabled()) {
+            // fail at startup rather than on the first request
+            for (String group : config.route().keySet()) {
+                group(group);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    /**
+     * Takes a token of the bucket of the client of {@code request} in {@code group}.
+     *
+     * @return {@code 0} if the request may run, otherwise the value of its {@code Retry-After} header in seconds
+     */
+    public long tryAcquire(String group, HttpServerRequest request) {
+        Group limited = groups.get(group);
+        if (limited == null) {
+            limited = group(group);
+        }
+        long wait = limited.buckets().tryAcquire(client(request), System.nanoTime());
+        if (wait == 0) {
+            return 0;
+        }
+        limited.rejected().increment();
+        return Math.max(1, (wait + SECOND - 1) / SECOND);
+    }
+
+    private Object client(HttpServerRequest request) {
+        String key = clientHeader == null ? null : request.getHeader(clientHeader);
+        if (key != null) {
+            return new Key(key);
+        }
+        SocketAddress address = request.remoteAddress();
+        return address == null ? "" : address.hostAddress();
+    }
+
+    private Group group(String group) {
+        return groups.computeIfAbsent(group, name -> {
+            RateLimitConfig.Route route = config.route().get(name);
+            TokenBuckets buckets = new TokenBuckets(
+                    route == null ? config.rate() : route.rate().orElse(config.rate()),
+                    route == null ? config.burst() : route.burst().orElse(config.burst()),
+                    config.maxClients());
+            Gauge.builder("rate.limit.clients", buckets, TokenBuckets::clients)
+                    .description("Clients of a rate limited group with a token bucket").tag("group", name).register(registry);
+            Counter rejected = Counter.builder("rate.limit.rejected")
+                    .description("Requests to a rate limited group rejected over the rate of their client").tag("group", name)
+                    .register(registry);
+            return new Group(buckets, rejected);
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package org.acme.spring.web.limit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * One token bucket per client, refilled at {@code rate} tokens per second up to {@code burst} tokens. Each bucket is
+ * a single {@code long}, the time at which it will be full again (the theoretical arrival time of the generic cell
+ * rate algorithm), so taking a token is one compare-and-set, without lock, whatever the number of threads.
+ * <p>
+ * The buckets live in a Caffeine cache, a striped hash table bounded to {@code maxClients} entries by W-TinyLFU, so a
+ * flood of one-off clients does not evict the frequent ones, whose buckets matter. A bucket idle for
+ * {@code burst / rate} seconds is full again and dropped, it would start over the same.
+ */
+public final class TokenBuckets {
+    private static final Function<Object, AtomicLong> FULL = client -> new AtomicLong(Long.MIN_VALUE);
+
+    private final long interval;
+    private final long tolerance;
+    private final Cache<Object, AtomicLong> buckets;
+
+    public TokenBuckets(double rate, int burst, long maxClients) {
+        if (rate <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate " + rate + " and burst " + burst + " must be positive");
+        }
+        this.interval = (long) Math.ceil(TimeUnit.SECONDS.toNanos(1) / rate);
+        this.tolerance = interval * burst;
+        this.buckets = Caffeine.newBuilder().maximumSize(maxClients).expireAfterAccess(Duration.ofNanos(tolerance)).build();
+    }
+
+    /**
+     * Takes a token of {@code client}'s bucket.
+     *
+     * @param now {@link System#nanoTime()}
+     * @return {@code 0} if the bucket had a token, otherwise the nanoseconds until it has one again
+     */
+    public long tryAcquire(Object client, long now) {
+        AtomicLong bucket = buckets.get(client, FULL);
+        while (true) {
+            long full = bucket.get();
+            long next = Math.max(full, now) + interval;
+            long excess = next - now - tolerance;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return the number of clients with a bucket, approximately
+     */
+    public long clients() {
+        return buckets.estimatedSize();
+    }
+}
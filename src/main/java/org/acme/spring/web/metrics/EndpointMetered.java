@@ -0,0 +1,18 @@
+package org.acme.spring.web.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Times the requests of the annotated endpoints, as a whole and per {@link EndpointPhase}, when
+ * {@link EndpointMetrics} is enabled.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EndpointMetered {
+}
@@ -0,0 +1,63 @@
+package org.acme.spring.web.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The meters of one endpoint, and what {@link EndpointTiming} needs to know about it.
+ */
+final class EndpointMeters {
+    final String endpoint;
+    /**
+     * {@code null} if the endpoint metrics are disabled, the request is then only timed for the
+     * {@link EndpointRequestEvent}.
+     */
+    final Timer requests;
+    private final Timer[] phases;
+    /**
+     * {@code null} if allocations are not recorded, or only for the {@link EndpointRequestEvent}.
+     */
+    final DistributionSummary allocated;
+    final boolean countsAllocations;
+    private final boolean validated;
+    private final boolean readsBody;
+    private final boolean streams;
+
+    EndpointMeters(String endpoint, Timer requests, Timer[] phases, DistributionSummary allocated, boolean countsAllocations,
+            boolean validated, boolean readsBody, boolean streams) {
+        this.endpoint = endpoint;
+        this.requests = requests;
+        this.phases = phases;
+        this.allocated = allocated;
+        this.countsAllocations = countsAllocations;
+        this.validated = validated;
+        this.readsBody = readsBody;
+        this.streams = streams;
+    }
+
+    boolean isRecorded(EndpointPhase phase) {
+        return phase != EndpointPhase.VALIDATE || validated;
+    }
+
+    void record(EndpointPhase phase, long nanos) {
+        if (phases != null) {
+            phases[phase.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return whether the request keeps its thread until the end of {@code phase}, {@code null} for the request
+     *         filters; reading the body and streaming the response let the thread serve other requests meanwhile
+     */
+    boolean isSynchronous(EndpointPhase phase) {
+        if (phase == EndpointPhase.BIND) {
+            return !readsBody;
+        }
+        if (phase == EndpointPhase.SERIALIZE) {
+            return !streams;
+        }
+        return true;
+    }
+}
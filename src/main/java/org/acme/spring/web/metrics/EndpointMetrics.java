@@ -0,0 +1,190 @@
+package org.acme.spring.web.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.inject.Singleton;
+import jakarta.validation.Constraint;
+import jakarta.validation.Valid;
+
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.handlers.FormBodyHandler;
+import org.jboss.resteasy.reactive.server.handlers.InputHandler;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import com.sun.management.ThreadMXBean;
+
+import jdk.jfr.EventType;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Latency and allocation per {@link EndpointMetered} endpoint, published as
+ * <ul>
+ * <li>{@code endpoint.requests}, the whole request from the first request filter to the end of the response,</li>
+ * <li>{@code endpoint.phase}, the same split by {@link EndpointPhase} in the {@code phase} tag,</li>
+ * <li>{@code endpoint.allocated}, the bytes allocated by the request, see {@link EndpointTiming}.</li>
+ * </ul>
+ * All tagged with {@code endpoint}, the simple class name and the method name. The timers publish histogram buckets
+ * from 1 µs to 10 s and the configured percentiles, which Micrometer computes with HdrHistogram.
+ * <p>
+ * While a Flight Recorder recording enables the {@link EndpointRequestEvent}, the requests are timed for it too, even
+ * with the metrics disabled; otherwise checking that costs a volatile read per request.
+ */
+@Singleton
+public class EndpointMetrics {
+    /**
+     * {@code null} if the JVM cannot count the allocations per thread.
+     */
+    static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads ? threads : null;
+    private static final EventType REQUEST_EVENT = EventType.getEventType(EndpointRequestEvent.class);
+
+    private static final Duration MINIMUM_LATENCY = Duration.ofNanos(1_000);
+    private static final Duration MAXIMUM_LATENCY = Duration.ofSeconds(10);
+
+    private final boolean enabled;
+    private final boolean allocation;
+    private final double[] percentiles;
+    private final MeterRegistry registry;
+    private final ConcurrentMap<RuntimeResource, Optional<EndpointMeters>> meters = new ConcurrentHashMap<>();
+
+    public EndpointMetrics(EndpointMetricsConfig config, MeterRegistry registry) {
+        this.enabled = config.enabled();
+        this.allocation = config.allocation() && countsAllocations();
+        this.percentiles = config.percentiles().stream().mapToDouble(Double::doubleValue).toArray();
+        this.registry = registry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return whether the requests are timed, for the metrics or for a recording
+     */
+    boolean isActive() {
+        return enabled || REQUEST_EVENT.isEnabled();
+    }
+
+    /**
+     * Starts timing the request to a {@link EndpointMetered} endpoint.
+     */
+    void begin(ResteasyReactiveRequestContext context) {
+        EndpointMeters endpoint = meters(context.getTarget());
+        if (endpoint != null) {
+            EndpointTiming timing = new EndpointTiming(endpoint, REQUEST_EVENT.isEnabled());
+            context.setProperty(EndpointTiming.PROPERTY, timing);
+            context.registerCompletionCallback(timing);
+        }
+    }
+
+    /**
+     * @return the timing of the current request, {@code null} if it is not timed
+     */
+    EndpointTiming timing() {
+        if (!isActive()) {
+            return null;
+        }
+        ResteasyReactiveRequestContext context = CurrentRequestManager.get();
+        return context == null ? null : (EndpointTiming) context.getProperty(EndpointTiming.PROPERTY);
+    }
+
+    private EndpointMeters meters(RuntimeResource resource) {
+        Optional<EndpointMeters> endpoint = meters.get(resource);
+        if (endpoint == null) {
+            endpoint = meters.computeIfAbsent(resource, this::register);
+        }
+        return endpoint.orElse(null);
+    }
+
+    private Optional<EndpointMeters> register(RuntimeResource resource) {
+        Method method = resource.getLazyMethod().getResourceMethod();
+        if (!method.isAnnotationPresent(EndpointMetered.class)
+                && !method.getDeclaringClass().isAnnotationPresent(EndpointMetered.class)) {
+            return Optional.empty();
+        }
+        String endpoint = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        if (!enabled) {
+            return Optional.of(new EndpointMeters(endpoint, null, null, null, allocation, isValidated(method),
+                    readsBody(resource), isAsynchronous(method.getReturnType())));
+        }
+        Timer[] phases = new Timer[EndpointPhase.values().length];
+        for (EndpointPhase phase : EndpointPhase.values()) {
+            phases[phase.ordinal()] = timer("endpoint.phase", "Duration of one phase of the requests to an endpoint")
+                    .tag("endpoint", endpoint).tag("phase", phase.tag).register(registry);
+        }
+        return Optional.of(new EndpointMeters(endpoint,
+                timer("endpoint.requests", "Duration of the requests to an endpoint").tag("endpoint", endpoint).register(registry),
+                phases,
+                allocation ? allocated(endpoint) : null,
+                allocation,
+                isValidated(method),
+                readsBody(resource),
+                isAsynchronous(method.getReturnType())));
+    }
+
+    private Timer.Builder timer(String name, String description) {
+        return Timer.builder(name).description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_LATENCY)
+                .maximumExpectedValue(MAXIMUM_LATENCY)
+                .publishPercentiles(percentiles);
+    }
+
+    private DistributionSummary allocated(String endpoint) {
+        return DistributionSummary.builder("endpoint.allocated").description("Bytes allocated by a request to an endpoint")
+                .baseUnit("bytes").tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(256.0)
+                .maximumExpectedValue(16.0 * 1024 * 1024)
+                .publishPercentiles(percentiles)
+                .register(registry);
+    }
+
+    private static boolean isValidated(Method method) {
+        for (Annotation[] annotations : method.getParameterAnnotations()) {
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof Valid || annotation.annotationType().isAnnotationPresent(Constraint.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean readsBody(RuntimeResource resource) {
+        for (ServerRestHandler handler : resource.getHandlerChain()) {
+            if (handler instanceof InputHandler || handler instanceof FormBodyHandler) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAsynchronous(Class<?> returnType) {
+        return Multi.class.isAssignableFrom(returnType) || Uni.class.isAssignableFrom(returnType)
+                || CompletionStage.class.isAssignableFrom(returnType);
+    }
+
+    private static boolean countsAllocations() {
+        if (THREADS == null || !THREADS.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        if (!THREADS.isThreadAllocatedMemoryEnabled()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package org.acme.spring.web.metrics;
+
+import java.util.List;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "endpoint.metrics")
+public interface EndpointMetricsConfig {
+
+    /**
+     * Whether the {@link EndpointMetered} endpoints are timed per phase. Disabled, the filters and interceptors only
+     * check this flag and whether a recording enables the {@link EndpointRequestEvent}.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Percentiles computed in the application and exported next to the histogram buckets, none if empty.
+     */
+    @WithDefault("0.5,0.99")
+    List<Double> percentiles();
+
+    /**
+     * Whether the bytes allocated per request are recorded, if the JVM can count them per thread.
+     */
+    @WithDefault("true")
+    boolean allocation();
+}
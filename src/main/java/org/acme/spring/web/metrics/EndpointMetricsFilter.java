@@ -0,0 +1,32 @@
+package org.acme.spring.web.metrics;
+
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
+
+/**
+ * Starts the timing of a request before all other request filters, still on the event loop, and its
+ * {@link EndpointPhase#BIND} phase after them, once the request has been moved to the thread it runs on.
+ */
+public class EndpointMetricsFilter {
+    private final EndpointMetrics metrics;
+
+    public EndpointMetricsFilter(EndpointMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @ServerRequestFilter(nonBlocking = true, priority = Integer.MIN_VALUE)
+    public void begin(ResteasyReactiveContainerRequestContext request) {
+        if (metrics.isActive()) {
+            metrics.begin((ResteasyReactiveRequestContext) request.getServerRequestContext());
+        }
+    }
+
+    @ServerRequestFilter(priority = Integer.MAX_VALUE)
+    public void bind() {
+        EndpointTiming timing = metrics.timing();
+        if (timing != null) {
+            timing.enter(EndpointPhase.BIND);
+        }
+    }
+}
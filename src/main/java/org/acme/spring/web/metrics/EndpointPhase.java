@@ -0,0 +1,27 @@
+package org.acme.spring.web.metrics;
+
+import java.util.Locale;
+
+/**
+ * The consecutive parts of a request, from the last request filter to the end of the response.
+ */
+public enum EndpointPhase {
+    /**
+     * Reading the body and converting the parameters.
+     */
+    BIND,
+    /**
+     * Checking the {@code @Valid} parameters, only recorded for endpoints that have any.
+     */
+    VALIDATE,
+    /**
+     * The endpoint method itself.
+     */
+    INVOKE,
+    /**
+     * The response filters and writing the entity, until the response has ended.
+     */
+    SERIALIZE;
+
+    final String tag = name().toLowerCase(Locale.ROOT);
+}
@@ -0,0 +1,52 @@
+package org.acme.spring.web.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A request to an {@link EndpointMetered} endpoint, committed to the Flight Recorder once its response has ended, by
+ * the thread that ended it. Its duration is the one of {@code endpoint.requests}, its fields the phases of
+ * {@code endpoint.phase}.
+ * <p>
+ * Disabled unless a recording enables it, by name: the {@link org.acme.spring.web.profiling.Profiler} does, and so can
+ * {@code jcmd <pid> JFR.start settings=...}. Without stack trace, which the execution samples of the same thread show.
+ */
+@Name(EndpointRequestEvent.NAME)
+@Label("Endpoint Request")
+@Description("A request to a greeting endpoint, split into its phases")
+@Category({ "Application", "Endpoints" })
+@StackTrace(false)
+public final class EndpointRequestEvent extends Event {
+    public static final String NAME = "org.acme.spring.web.EndpointRequest";
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Bind")
+    @Timespan
+    long bind;
+
+    @Label("Validate")
+    @Description("Zero for endpoints without @Valid parameters")
+    @Timespan
+    long validate;
+
+    @Label("Invoke")
+    @Timespan
+    long invoke;
+
+    @Label("Serialize")
+    @Timespan
+    long serialize;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the request, -1 if not counted")
+    @DataAmount
+    long allocated;
+}
@@ -0,0 +1,115 @@
+package org.acme.spring.web.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.container.CompletionCallback;
+
+/**
+ * The phases one request has gone through so far, recorded once the response has ended, in the meters and, while a
+ * recording enables it, as an {@link EndpointRequestEvent}.
+ * <p>
+ * Allocations are read from the thread at every change of phase. Only the stretches that ran on one thread without
+ * interruption are added up: moving to another thread, reading the body and streaming the response let the threads
+ * serve other requests in between. A request on a virtual thread, which the JVM does not count, is not recorded.
+ */
+final class EndpointTiming implements CompletionCallback {
+    static final String PROPERTY = EndpointTiming.class.getName();
+
+    private final EndpointMeters meters;
+    private final long start;
+    /**
+     * {@code null} if no recording enabled the event when the request began.
+     */
+    private final EndpointRequestEvent event;
+    /**
+     * {@code null} during the request filters.
+     */
+    private EndpointPhase phase;
+    private long phaseStart;
+    private Thread thread;
+    private long allocatedAt;
+    private long allocated;
+    private boolean uncounted;
+
+    EndpointTiming(EndpointMeters meters, boolean profiled) {
+        this.meters = meters;
+        this.start = System.nanoTime();
+        this.phaseStart = start;
+        if (profiled) {
+            event = new EndpointRequestEvent();
+            event.begin();
+        } else {
+            event = null;
+        }
+        if (meters.countsAllocations) {
+            sample(false);
+        }
+    }
+
+    /**
+     * Ends the current phase, unless it is {@code next} already.
+     */
+    void enter(EndpointPhase next) {
+        if (next == phase) {
+            return;
+        }
+        long now = System.nanoTime();
+        end(now);
+        phase = next;
+        phaseStart = now;
+    }
+
+    @Override
+    public void onComplete(Throwable failure) {
+        long now = System.nanoTime();
+        end(now);
+        if (meters.requests != null) {
+            meters.requests.record(now - start, TimeUnit.NANOSECONDS);
+        }
+        if (meters.allocated != null && !uncounted) {
+            meters.allocated.record(allocated);
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = meters.endpoint;
+                event.allocated = meters.countsAllocations && !uncounted ? allocated : -1;
+                event.commit();
+            }
+        }
+    }
+
+    private void end(long now) {
+        if (phase != null && meters.isRecorded(phase)) {
+            long nanos = now - phaseStart;
+            meters.record(phase, nanos);
+            if (event != null) {
+                add(phase, nanos);
+            }
+        }
+        if (meters.countsAllocations) {
+            sample(phase == null || meters.isSynchronous(phase));
+        }
+    }
+
+    private void add(EndpointPhase phase, long nanos) {
+        switch (phase) {
+            case BIND -> event.bind += nanos;
+            case VALIDATE -> event.validate += nanos;
+            case INVOKE -> event.invoke += nanos;
+            case SERIALIZE -> event.serialize += nanos;
+        }
+    }
+
+    private void sample(boolean count) {
+        Thread current = Thread.currentThread();
+        long bytes = EndpointMetrics.THREADS.getCurrentThreadAllocatedBytes();
+        if (bytes < 0) {
+            uncounted = true;
+        } else if (count && current == thread) {
+            allocated += bytes - allocatedAt;
+        }
+        thread = current;
+        allocatedAt = bytes;
+    }
+}
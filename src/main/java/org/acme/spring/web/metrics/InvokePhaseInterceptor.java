@@ -0,0 +1,32 @@
+package org.acme.spring.web.metrics;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Times {@link EndpointPhase#INVOKE}, the endpoint method alone, inside Hibernate Validator's endpoint interceptor.
+ */
+@EndpointMetered
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 900)
+public class InvokePhaseInterceptor {
+    @Inject
+    EndpointMetrics metrics;
+
+    @AroundInvoke
+    Object invoke(InvocationContext invocation) throws Exception {
+        EndpointTiming timing = metrics.timing();
+        if (timing == null) {
+            return invocation.proceed();
+        }
+        timing.enter(EndpointPhase.INVOKE);
+        try {
+            return invocation.proceed();
+        } finally {
+            timing.enter(EndpointPhase.SERIALIZE);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.acme.spring.web.metrics;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Ends {@link EndpointPhase#BIND} right before Hibernate Validator's endpoint interceptor, priority
+ * {@code PLATFORM_AFTER + 800}, checks the parameters. A violation ends the invocation here, the error response then
+ * counts as {@link EndpointPhase#SERIALIZE}.
+ */
+@EndpointMetered
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 700)
+public class ValidatePhaseInterceptor {
+    @Inject
+    EndpointMetrics metrics;
+
+    @AroundInvoke
+    Object validate(InvocationContext invocation) throws Exception {
+        EndpointTiming timing = metrics.timing();
+        if (timing == null) {
+            return invocation.proceed();
+        }
+        timing.enter(EndpointPhase.VALIDATE);
+        try {
+            return invocation.proceed();
+        } finally {
+            timing.enter(EndpointPhase.SERIALIZE);
+        }
+    }
+}
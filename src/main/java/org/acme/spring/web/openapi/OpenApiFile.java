@@ -0,0 +1,12 @@
+package org.acme.spring.web.openapi;
+
+import java.nio.file.Path;
+
+/**
+ * One representation of the OpenAPI document on disk.
+ *
+ * @param contentEncoding {@code gzip} or {@code null} for the uncompressed document
+ * @param etag strong entity tag of exactly the bytes in {@code path}
+ */
+public record OpenApiFile(Path path, long length, String contentType, String contentEncoding, String etag) {
+}
@@ -0,0 +1,126 @@
+package org.acme.spring.web.openapi;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.acme.spring.web.http.EntityTags;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.vertx.http.runtime.RouteConstants;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the OpenAPI document from {@link OpenApiFiles} in front of Quarkus' own handler, at the same paths and with
+ * the same choice of format: the {@code .json}, {@code .yaml} or {@code .yml} suffix, the {@code format} query
+ * parameter, then {@code Accept}.
+ * <p>
+ * On top of that the response carries a strong {@code ETag}, a matching {@code If-None-Match} is answered with 304,
+ * and clients accepting gzip get the pre-compressed file. The body is sent with {@code sendfile} on plain HTTP, the
+ * documents never pass through the heap per request.
+ */
+@Singleton
+public class OpenApiFileRoute {
+    static final int ROUTE_ORDER = RouteConstants.ROUTE_ORDER_COMPRESSION - 1;
+
+    private final OpenApiFilesConfig config;
+    private final OpenApiFiles files;
+    private final String path;
+
+    public OpenApiFileRoute(OpenApiFilesConfig config, OpenApiFiles files,
+            @ConfigProperty(name = "quarkus.http.root-path", defaultValue = "/") String rootPath,
+            @ConfigProperty(name = "quarkus.http.non-application-root-path", defaultValue = "q") String nonApplicationRootPath,
+            @ConfigProperty(name = "quarkus.smallrye-openapi.path", defaultValue = "openapi") String openApiPath) {
+        this.config = config;
+        this.files = files;
+        this.path = resolve(resolve(rootPath, nonApplicationRootPath), openApiPath);
+    }
+
+    void register(@Observes Router router) {
+        if (config.enabled()) {
+            // Quarkus adds its handler without an explicit order, so it gets one counting up from 0, ours has to be lower
+            for (String suffix : new String[] { "", ".json", ".yaml", ".yml" }) {
+                router.route(path + suffix).method(HttpMethod.GET).method(HttpMethod.HEAD)
+                        .order(ROUTE_ORDER).handler(this::serve);
+            }
+        }
+    }
+
+    private void serve(RoutingContext context) {
+        HttpServerRequest request = context.request();
+        OpenApiFile file = files.get(isJson(request.path(), request.getParam("format"), request.getHeader(HttpHeaders.ACCEPT)),
+                acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+        HttpServerResponse response = context.response()
+                .putHeader(HttpHeaders.ETAG, file.etag())
+                .putHeader(HttpHeaders.VARY, "Accept, Accept-Encoding");
+        if (EntityTags.isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), file.etag())) {
+            response.setStatusCode(304).end();
+            return;
+        }
+        response.putHeader(HttpHeaders.CONTENT_TYPE, file.contentType());
+        if (file.contentEncoding() != null) {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, file.contentEncoding());
+        }
+        if (request.method() == HttpMethod.HEAD) {
+            response.putHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(file.length())).end();
+        } else {
+            response.sendFile(file.path().toString());
+        }
+    }
+
+    static boolean isJson(String path, String format, String accept) {
+        if (path.endsWith(".json")) {
+            return true;
+        }
+        if (path.endsWith(".yaml") || path.endsWith(".yml")) {
+            return false;
+        }
+        if (format != null) {
+            return format.equalsIgnoreCase("json");
+        }
+        return accept != null && accept.contains("application/json");
+    }
+
+    /**
+     * @return whether {@code gzip} or {@code *} is listed in {@code Accept-Encoding} without {@code q=0}
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            int parameters = coding.indexOf(';');
+            String name = (parameters < 0 ? coding : coding.substring(0, parameters)).strip();
+            if ((name.equalsIgnoreCase(OpenApiFiles.GZIP) || name.equals("*")) && !isRejected(coding, parameters)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRejected(String coding, int parameters) {
+        if (parameters < 0) {
+            return false;
+        }
+        String weight = coding.substring(parameters + 1).replace(" ", "");
+        if (!weight.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(weight.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String resolve(String base, String path) {
+        if (path.startsWith("/")) {
+            return path;
+        }
+        return (base.endsWith("/") ? base : base + "/") + path;
+    }
+}
@@ -0,0 +1,85 @@
+package org.acme.spring.web.openapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.inject.Singleton;
+
+import org.acme.spring.web.http.EntityTags;
+
+import io.quarkus.smallrye.openapi.runtime.OpenApiDocumentService;
+
+/**
+ * The JSON and YAML OpenAPI documents, each uncompressed and gzip compressed, written once to
+ * {@link OpenApiFilesConfig#directory()} so that {@link OpenApiFileRoute} can send them with {@code sendfile}.
+ * <p>
+ * The documents are the ones Quarkus generated at build time, with the runtime filters applied, exactly what its own
+ * handler would serve. That is why the files are written at startup rather than by the build: the runtime filters
+ * only run in the application, and Quarkus stores its schema during {@code quarkus:build}, too late to be packaged.
+ */
+@Singleton
+public class OpenApiFiles {
+    static final String JSON = "application/json;charset=UTF-8";
+    static final String YAML = "application/yaml;charset=UTF-8";
+    static final String GZIP = "gzip";
+
+    private final OpenApiFile[] files;
+
+    public OpenApiFiles(OpenApiDocumentService documents, OpenApiFilesConfig config) {
+        this.files = config.enabled() ? write(documents, config) : new OpenApiFile[0];
+    }
+
+    /**
+     * @return the representation for the requested format and encoding
+     */
+    public OpenApiFile get(boolean json, boolean gzip) {
+        return files[(json ? 2 : 0) + (gzip ? 1 : 0)];
+    }
+
+    private static OpenApiFile[] write(OpenApiDocumentService documents, OpenApiFilesConfig config) {
+        try {
+            boolean temporary = config.directory().isEmpty();
+            Path directory = temporary ? Files.createTempDirectory("openapi") : Files.createDirectories(config.directory().get());
+            byte[] yaml = documents.getYamlDocument();
+            byte[] json = documents.getJsonDocument();
+            OpenApiFile[] files = {
+                    write(directory.resolve("openapi.yaml"), yaml, YAML, null),
+                    write(directory.resolve("openapi.yaml.gz"), gzip(yaml), YAML, GZIP),
+                    write(directory.resolve("openapi.json"), json, JSON, null),
+                    write(directory.resolve("openapi.json.gz"), gzip(json), JSON, GZIP) };
+            if (temporary) {
+                // deleted in reverse order of registration, the files before their directory
+                directory.toFile().deleteOnExit();
+                for (OpenApiFile file : files) {
+                    file.path().toFile().deleteOnExit();
+                }
+            }
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not write the OpenAPI documents", e);
+        }
+    }
+
+    private static OpenApiFile write(Path path, byte[] content, String contentType, String contentEncoding) throws IOException {
+        Files.write(path, content);
+        return new OpenApiFile(path, content.length, contentType, contentEncoding, EntityTags.etag(content));
+    }
+
+    static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4);
+        // compressed once per start, so spend the CPU on the smallest output
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(content);
+        }
+        return compressed.toByteArray();
+    }
+}
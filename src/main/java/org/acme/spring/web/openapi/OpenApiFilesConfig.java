@@ -0,0 +1,22 @@
+package org.acme.spring.web.openapi;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "openapi.files")
+public interface OpenApiFilesConfig {
+
+    /**
+     * Whether the OpenAPI document is served from {@link OpenApiFiles} instead of Quarkus' own handler.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Where the documents and their compressed variants are written at startup, a new temporary directory if not set.
+     */
+    Optional<Path> directory();
+}
@@ -0,0 +1,176 @@
+package org.acme.spring.web.phrase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.acme.spring.web.entity.Greeting;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * The greetings of the known names, rendered once: those listed in {@code greeting.phrases.file} at startup and,
+ * up to {@code greeting.phrases.hot-set-size}, the names requested at runtime. Greeting a known name is a lookup
+ * without building a string, and so is finding its JSON document.
+ * <p>
+ * Names that are neither listed nor in the hot set are looked up in the {@link PhraseStore} of
+ * {@code greeting.phrases.store}, if any, and greeted with the template only if it has no phrase for them. Phrases
+ * found in the store are learned by the hot set like rendered ones.
+ * <p>
+ * A name enters the hot set the second time it misses, so a stream of one-off names is rendered like without hot set,
+ * at the cost of remembering the hash of each. Once in, the hot set is bounded by Caffeine's W-TinyLFU, which keeps a
+ * new name only if it is requested more often than the one it would evict. Names longer than
+ * {@value #MAX_HOT_NAME_LENGTH} characters are never kept. Hits, misses and evictions of the hot set are published as
+ * {@code cache_gets_total} and {@code cache_evictions_total} with {@code cache=greeting-phrases}.
+ */
+@Singleton
+public class GreetingPhrases {
+    static final int MAX_HOT_NAME_LENGTH = 64;
+
+    private final Phrase absent = Phrase.render(null);
+    private final Map<String, Phrase> table;
+    private final Map<Greeting, byte[]> tableJson;
+    private final Optional<PhraseStore> store;
+    private final Optional<Cache<String, Phrase>> hotSet;
+    private final Optional<Cache<Greeting, byte[]>> hotJson;
+    /**
+     * Hash codes of names that missed the hot set, by slot; racy on purpose, a lost write only delays learning a name.
+     */
+    private final int[] missed;
+
+    @Inject
+    public GreetingPhrases(GreetingPhrasesConfig config, MeterRegistry registry) {
+        this(config.file().map(GreetingPhrases::readNames).orElse(List.of()), config.store().map(GreetingPhrases::openStore),
+                config.hotSetSize());
+        hotSet.ifPresent(phrases -> CaffeineCacheMetrics.monitor(registry, phrases, "greeting-phrases"));
+    }
+
+    public GreetingPhrases(Collection<String> names, long hotSetSize) {
+        this(names, Optional.empty(), hotSetSize);
+    }
+
+    public GreetingPhrases(Collection<String> names, Optional<PhraseStore> store, long hotSetSize) {
+        Map<String, Phrase> table = new HashMap<>();
+        Map<Greeting, byte[]> tableJson = new HashMap<>();
+        tableJson.put(absent.greeting(), absent.json());
+        for (String name : names) {
+            Phrase phrase = Phrase.render(name);
+            table.put(name, phrase);
+            tableJson.put(phrase.greeting(), phrase.json());
+        }
+        this.table = Map.copyOf(table);
+        this.tableJson = Map.copyOf(tableJson);
+        this.store = store;
+        if (hotSetSize > 0) {
+            this.hotSet = Optional.of(Caffeine.newBuilder().maximumSize(hotSetSize).recordStats().build());
+            this.hotJson = Optional.of(Caffeine.newBuilder().maximumSize(hotSetSize).build());
+            this.missed = new int[Integer.highestOneBit((int) Math.min(4 * hotSetSize, 1 << 24) - 1) << 1];
+        } else {
+            this.hotSet = Optional.empty();
+            this.hotJson = Optional.empty();
+            this.missed = new int[0];
+        }
+    }
+
+    /**
+     * @param name {@code null} for requests without one
+     */
+    public Greeting greet(String name) {
+        return phrase(name).greeting();
+    }
+
+    /**
+     * @param name {@code null} for requests without one
+     * @return the rendered greeting of {@code name}, found in the store or rendered now if it is not known
+     */
+    public Phrase phrase(String name) {
+        if (name == null) {
+            return absent;
+        }
+        Phrase phrase = table.get(name);
+        if (phrase != null) {
+            return phrase;
+        }
+        if (hotSet.isEmpty() || name.length() > MAX_HOT_NAME_LENGTH) {
+            return lookUp(name);
+        }
+        phrase = hotSet.get().getIfPresent(name);
+        if (phrase == null) {
+            phrase = lookUp(name);
+            if (missedBefore(name)) {
+                hotSet.get().put(name, phrase);
+                hotJson.get().put(phrase.greeting(), phrase.json());
+            }
+        }
+        return phrase;
+    }
+
+    /**
+     * @return the JSON document of {@code greeting} if it is a known one, {@code null} otherwise
+     */
+    public byte[] json(Greeting greeting) {
+        byte[] json = tableJson.get(greeting);
+        if (json != null || hotJson.isEmpty()) {
+            return json;
+        }
+        return hotJson.get().getIfPresent(greeting);
+    }
+
+    private Phrase lookUp(String name) {
+        if (store.isPresent()) {
+            long record = store.get().find(name);
+            if (record >= 0) {
+                return Phrase.of(store.get().phrase(record));
+            }
+        }
+        return Phrase.render(name);
+    }
+
+    /**
+     * Records the miss of {@code name}; a name whose slot another one took since is taken for new.
+     *
+     * @return whether {@code name} missed before
+     */
+    private boolean missedBefore(String name) {
+        int hash = name.hashCode();
+        if (hash == 0) {
+            // the empty slot
+            hash = 1;
+        }
+        int slot = (hash ^ hash >>> 16) & missed.length - 1;
+        if (missed[slot] == hash) {
+            return true;
+        }
+        missed[slot] = hash;
+        return false;
+    }
+
+    private static PhraseStore openStore(Path file) {
+        try {
+            return PhraseStore.open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot open phrase store " + file, e);
+        }
+    }
+
+    private static List<String> readNames(Path file) {
+        try {
+            return Files.readAllLines(file).stream().filter(line -> !line.isBlank() && !line.startsWith("#")).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot read greeting phrases from " + file, e);
+        }
+    }
+}
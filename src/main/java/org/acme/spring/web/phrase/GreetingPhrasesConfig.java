@@ -0,0 +1,30 @@
+package org.acme.spring.web.phrase;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "greeting.phrases")
+public interface GreetingPhrasesConfig {
+
+    /**
+     * UTF-8 file of the names whose greetings are rendered at startup, one per line; blank lines and lines starting
+     * with {@code #} are skipped.
+     */
+    Optional<Path> file();
+
+    /**
+     * Phrase store written by {@code PhraseStoreWriter}, mapped into memory: the personalised greetings of names that
+     * are not in {@link #file()}, any number of them without taking heap.
+     */
+    Optional<Path> store();
+
+    /**
+     * Maximum number of other names whose greetings are kept once rendered, the most frequently requested ones win;
+     * {@code 0} renders every other greeting for each request.
+     */
+    @WithDefault("1024")
+    long hotSetSize();
+}
@@ -0,0 +1,23 @@
+package org.acme.spring.web.phrase;
+
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.json.GreetingJsonWriter;
+
+/**
+ * A greeting rendered once, with its JSON document as {@link GreetingJsonWriter} writes it. The array is shared by
+ * every response and must not be modified.
+ */
+public record Phrase(Greeting greeting, byte[] json) {
+
+    /**
+     * @param name {@code null} for requests without one
+     */
+    public static Phrase render(String name) {
+        return of("hello " + (name == null ? "?????" : name));
+    }
+
+    public static Phrase of(String phrase) {
+        Greeting greeting = new Greeting(phrase);
+        return new Phrase(greeting, GreetingJsonWriter.encode(greeting));
+    }
+}
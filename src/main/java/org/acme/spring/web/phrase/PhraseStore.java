@@ -0,0 +1,221 @@
+package org.acme.spring.web.phrase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only file of personalised phrases by name, written by {@link PhraseStoreWriter} and mapped into memory, so
+ * tens of millions of phrases cost page cache instead of heap. Finding a name neither allocates nor decodes: the name
+ * is hashed and compared as UTF-8 on the fly, only the phrase of a found name is decoded.
+ * <p>
+ * The file is a header (magic, version, number of records and of slots), an open addressing hash table of
+ * {@code long} slots and the records. A slot holds the top {@value #TAG_BITS} bits of the name's hash and the offset
+ * of its record, {@code 0} if empty; a record is the length of the UTF-8 name as an unsigned {@code short}, the name,
+ * the length of the UTF-8 phrase and the phrase.
+ * <p>
+ * {@link ByteBuffer}s are limited to 2 GB, so the file is mapped in overlapping segments: each one extends past the
+ * next segment's start by the largest possible record, so a record is always read from the segment it starts in.
+ */
+public final class PhraseStore {
+    static final int MAGIC = 0x47505331;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int TAG_BITS = 24;
+    static final int OFFSET_BITS = Long.SIZE - TAG_BITS;
+    static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    static final int MAX_LENGTH = 0xFFFF;
+    static final int MAX_RECORD_SIZE = 2 * (Short.BYTES + MAX_LENGTH);
+
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_BITS;
+
+    private final ByteBuffer[] segments;
+    private final int size;
+    private final int mask;
+
+    private PhraseStore(ByteBuffer[] segments, int size, int slots) {
+        this.segments = segments;
+        this.size = size;
+        this.mask = slots - 1;
+    }
+
+    public static PhraseStore open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            ByteBuffer[] segments = new ByteBuffer[(int) ((length + SEGMENT_SIZE - 1) >>> SEGMENT_BITS)];
+            for (int i = 0; i < segments.length; i++) {
+                long start = (long) i << SEGMENT_BITS;
+                // the mapping stays valid once the channel is closed
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(length - start, SEGMENT_SIZE + MAX_RECORD_SIZE)).order(ByteOrder.BIG_ENDIAN);
+            }
+            if (length < HEADER_SIZE || segments[0].getInt(0) != MAGIC || segments[0].getInt(4) != VERSION) {
+                throw new IOException(file + " is not a phrase store");
+            }
+            int size = segments[0].getInt(8);
+            int slots = segments[0].getInt(12);
+            if (Integer.bitCount(slots) != 1 || length < HEADER_SIZE + (long) slots * Long.BYTES) {
+                throw new IOException(file + " is truncated");
+            }
+            return new PhraseStore(segments, size, slots);
+        }
+    }
+
+    /**
+     * @return the number of records, duplicate names included
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the record of {@code name}, to be passed to {@link #phrase(long)}, or {@code -1} if the store has none
+     */
+    public long find(CharSequence name) {
+        long hash = hash(name);
+        long tag = hash >>> OFFSET_BITS;
+        for (int slot = (int) hash & mask;; slot = (slot + 1) & mask) {
+            long entry = getLong(HEADER_SIZE + (long) slot * Long.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            if (entry >>> OFFSET_BITS == tag && nameEquals(entry & OFFSET_MASK, name)) {
+                return entry & OFFSET_MASK;
+            }
+        }
+    }
+
+    /**
+     * @param record found by {@link #find(CharSequence)}
+     */
+    public String phrase(long record) {
+        ByteBuffer segment = segments[(int) (record >>> SEGMENT_BITS)];
+        int position = (int) (record & (SEGMENT_SIZE - 1));
+        position += Short.BYTES + Short.toUnsignedInt(segment.getShort(position));
+        byte[] phrase = new byte[Short.toUnsignedInt(segment.getShort(position))];
+        segment.get(position + Short.BYTES, phrase);
+        return new String(phrase, StandardCharsets.UTF_8);
+    }
+
+    private long getLong(long offset) {
+        return segments[(int) (offset >>> SEGMENT_BITS)].getLong((int) (offset & (SEGMENT_SIZE - 1)));
+    }
+
+    private boolean nameEquals(long record, CharSequence name) {
+        ByteBuffer segment = segments[(int) (record >>> SEGMENT_BITS)];
+        int position = (int) (record & (SEGMENT_SIZE - 1));
+        int length = Short.toUnsignedInt(segment.getShort(position));
+        position += Short.BYTES;
+        int end = position + length;
+        for (int i = 0; i < name.length(); i++) {
+            int codePoint = codePointAt(name, i);
+            if (Character.isSupplementaryCodePoint(codePoint)) {
+                i++;
+            }
+            int bytes = utf8Length(codePoint);
+            if (position + bytes > end) {
+                return false;
+            }
+            int encoded = utf8(codePoint);
+            for (int shift = 8 * (bytes - 1); shift >= 0; shift -= 8) {
+                if (segment.get(position++) != (byte) (encoded >>> shift)) {
+                    return false;
+                }
+            }
+        }
+        return position == end;
+    }
+
+    /**
+     * FNV-1a of the UTF-8 bytes of {@code name}, finished with the MurmurHash3 mix so that the low bits, which pick
+     * the slot, depend on every byte.
+     */
+    static long hash(CharSequence name) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            int codePoint = codePointAt(name, i);
+            if (Character.isSupplementaryCodePoint(codePoint)) {
+                i++;
+            }
+            int encoded = utf8(codePoint);
+            for (int shift = 8 * (utf8Length(codePoint) - 1); shift >= 0; shift -= 8) {
+                hash = (hash ^ ((encoded >>> shift) & 0xFF)) * 0x100000001b3L;
+            }
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * The UTF-8 bytes of {@code name} as {@link String#getBytes(java.nio.charset.Charset)} encodes them, for the
+     * writer, so that the stored names match {@link #hash(CharSequence)} and {@link #nameEquals(long, CharSequence)}.
+     */
+    static byte[] utf8(CharSequence name) {
+        byte[] bytes = new byte[utf8Length(name)];
+        int position = 0;
+        for (int i = 0; i < name.length(); i++) {
+            int codePoint = codePointAt(name, i);
+            if (Character.isSupplementaryCodePoint(codePoint)) {
+                i++;
+            }
+            int encoded = utf8(codePoint);
+            for (int shift = 8 * (utf8Length(codePoint) - 1); shift >= 0; shift -= 8) {
+                bytes[position++] = (byte) (encoded >>> shift);
+            }
+        }
+        return bytes;
+    }
+
+    private static int utf8Length(CharSequence name) {
+        int length = 0;
+        for (int i = 0; i < name.length(); i++) {
+            int codePoint = codePointAt(name, i);
+            if (Character.isSupplementaryCodePoint(codePoint)) {
+                i++;
+            }
+            length += utf8Length(codePoint);
+        }
+        return length;
+    }
+
+    /**
+     * @return the code point at {@code index}, {@code '?'} for a lone surrogate like the JDK's encoder
+     */
+    private static int codePointAt(CharSequence name, int index) {
+        char c = name.charAt(index);
+        if (!Character.isSurrogate(c)) {
+            return c;
+        }
+        if (Character.isHighSurrogate(c) && index + 1 < name.length() && Character.isLowSurrogate(name.charAt(index + 1))) {
+            return Character.toCodePoint(c, name.charAt(index + 1));
+        }
+        return '?';
+    }
+
+    private static int utf8Length(int codePoint) {
+        return codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+    }
+
+    /**
+     * @return the UTF-8 bytes of {@code codePoint}, the first one in the highest used byte of the {@code int}
+     */
+    private static int utf8(int codePoint) {
+        if (codePoint < 0x80) {
+            return codePoint;
+        }
+        if (codePoint < 0x800) {
+            return (0xC0 | codePoint >>> 6) << 8 | 0x80 | (codePoint & 0x3F);
+        }
+        if (codePoint < 0x10000) {
+            return (0xE0 | codePoint >>> 12) << 16 | (0x80 | (codePoint >>> 6 & 0x3F)) << 8 | 0x80 | (codePoint & 0x3F);
+        }
+        return (0xF0 | codePoint >>> 18) << 24 | (0x80 | (codePoint >>> 12 & 0x3F)) << 16
+                | (0x80 | (codePoint >>> 6 & 0x3F)) << 8 | 0x80 | (codePoint & 0x3F);
+    }
+}
@@ -0,0 +1,144 @@
+package org.acme.spring.web.phrase;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a {@link PhraseStore}. The records are streamed to the file as they are added, only the hash table is held in
+ * memory, 8 bytes per slot and about 1.5 slots per record, so the number of records must be known up front.
+ * <p>
+ * Run offline on a tab separated file of names and phrases, one per line, blank lines and lines starting with
+ * {@code #} skipped:
+ *
+ * <pre>
+ * java -cp target/classes org.acme.spring.web.phrase.PhraseStoreWriter phrases.tsv phrases.store
+ * </pre>
+ *
+ * When a name appears more than once, the store answers with its first phrase.
+ */
+public final class PhraseStoreWriter implements Closeable {
+    private final FileChannel channel;
+    private final DataOutputStream records;
+    private final long[] slots;
+    private final int capacity;
+    private long offset;
+    private int size;
+
+    /**
+     * @param capacity the number of records that will be added
+     */
+    public PhraseStoreWriter(Path file, int capacity) throws IOException {
+        // at most 3 slots in 4 used, so that misses end after a few probes, and always an empty one to end them
+        int slots = Integer.highestOneBit((capacity + capacity / 3 + 1) * 2 - 1);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.slots = new long[slots];
+        this.capacity = capacity;
+        this.offset = PhraseStore.HEADER_SIZE + (long) slots * Long.BYTES;
+        channel.position(offset);
+        this.records = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: PhraseStoreWriter <names and phrases, tab separated> <store>");
+            System.exit(2);
+        }
+        Path input = Path.of(args[0]);
+        int count;
+        try (BufferedReader lines = Files.newBufferedReader(input)) {
+            count = (int) lines.lines().filter(PhraseStoreWriter::isEntry).count();
+        }
+        try (BufferedReader lines = Files.newBufferedReader(input);
+                PhraseStoreWriter writer = new PhraseStoreWriter(Path.of(args[1]), count)) {
+            int number = 0;
+            for (String line; (line = lines.readLine()) != null;) {
+                number++;
+                if (!isEntry(line)) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                if (tab < 0) {
+                    throw new IllegalArgumentException(input + ":" + number + " has no tab between name and phrase");
+                }
+                writer.add(line.substring(0, tab), line.substring(tab + 1));
+            }
+        }
+        System.out.printf("%d phrases written to %s%n", count, args[1]);
+    }
+
+    private static boolean isEntry(String line) {
+        return !line.isBlank() && !line.startsWith("#");
+    }
+
+    /**
+     * @throws IllegalArgumentException if the name or the phrase is longer than 65535 UTF-8 bytes
+     * @throws IllegalStateException if the capacity has been reached
+     */
+    public void add(String name, String phrase) throws IOException {
+        byte[] nameBytes = PhraseStore.utf8(name);
+        byte[] phraseBytes = phrase.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length > PhraseStore.MAX_LENGTH || phraseBytes.length > PhraseStore.MAX_LENGTH) {
+            throw new IllegalArgumentException("name or phrase longer than " + PhraseStore.MAX_LENGTH + " bytes: " + name);
+        }
+        if (size == capacity) {
+            throw new IllegalStateException("capacity of " + capacity + " phrases reached");
+        }
+        if (offset > PhraseStore.OFFSET_MASK) {
+            throw new IllegalStateException("store larger than " + PhraseStore.OFFSET_MASK + " bytes");
+        }
+        long hash = PhraseStore.hash(name);
+        int mask = slots.length - 1;
+        int slot = (int) hash & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = hash >>> PhraseStore.OFFSET_BITS << PhraseStore.OFFSET_BITS | offset;
+        records.writeShort(nameBytes.length);
+        records.write(nameBytes);
+        records.writeShort(phraseBytes.length);
+        records.write(phraseBytes);
+        offset += 2 * Short.BYTES + nameBytes.length + phraseBytes.length;
+        size++;
+    }
+
+    /**
+     * Writes the header and the hash table once all records have been added.
+     */
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            records.flush();
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+            buffer.putInt(PhraseStore.MAGIC).putInt(PhraseStore.VERSION).putInt(size).putInt(slots.length);
+            long position = 0;
+            for (long slot : slots) {
+                if (!buffer.hasRemaining()) {
+                    position += write(buffer, position);
+                }
+                buffer.putLong(slot);
+            }
+            write(buffer, position);
+        }
+    }
+
+    private int write(ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        int written = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+        return written;
+    }
+}
@@ -0,0 +1,61 @@
+package org.acme.spring.web.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * The execution samples of a recording in the collapsed stack format of {@code flamegraph.pl} and speedscope: one
+ * line per distinct stack, its frames from the outermost, separated by {@code ;}, then a space and the number of
+ * samples.
+ * <p>
+ * The Flight Recorder keeps the 64 innermost frames, stacks deeper than that start with {@value #TRUNCATED}; run with
+ * {@code -XX:FlightRecorderOptions:stackdepth=256} to keep the whole stacks of the endpoints.
+ */
+public final class CollapsedStacks {
+    static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    static final String TRUNCATED = "[truncated]";
+
+    private CollapsedStacks() {
+    }
+
+    public static String of(Path recording) throws IOException {
+        Map<String, Long> samples = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (event.getEventType().getName().equals(EXECUTION_SAMPLE) && event.getStackTrace() != null) {
+                    samples.merge(collapse(event.getStackTrace()), 1L, Long::sum);
+                }
+            }
+        }
+        StringBuilder collapsed = new StringBuilder();
+        samples.forEach((stack, count) -> collapsed.append(stack).append(' ').append(count).append('\n'));
+        return collapsed.toString();
+    }
+
+    private static String collapse(RecordedStackTrace stackTrace) {
+        StringBuilder stack = new StringBuilder();
+        if (stackTrace.isTruncated()) {
+            stack.append(TRUNCATED);
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            RecordedMethod method = frames.get(i).getMethod();
+            if (!stack.isEmpty()) {
+                stack.append(';');
+            }
+            // spaces would end the stack
+            stack.append(method.getType().getName().replace(' ', '_')).append('.').append(method.getName());
+        }
+        return stack.toString();
+    }
+}
@@ -0,0 +1,107 @@
+package org.acme.spring.web.profiling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import org.acme.spring.web.metrics.EndpointRequestEvent;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * One Flight Recorder recording at a time, with the JDK's {@code default} settings, made for continuous use in
+ * production at about 1% of CPU, the execution samples at the configured period, and the
+ * {@link EndpointRequestEvent}s. Its duration and size are bounded by {@link ProfilingConfig}.
+ * <p>
+ * A recording that has stopped by itself stays available until it is collected with {@link #stop()} or replaced by
+ * the next one.
+ */
+@Singleton
+public class Profiler {
+    private final ProfilingConfig config;
+    private Recording recording;
+
+    public Profiler(ProfilingConfig config) {
+        this.config = config;
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    /**
+     * @param duration capped to {@link ProfilingConfig#maxDuration()}, which is also the default
+     * @return {@code false} if a recording is running already
+     */
+    public synchronized boolean start(Optional<Duration> duration) throws IOException {
+        if (recording != null) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                return false;
+            }
+            recording.close();
+        }
+        Map<String, String> settings = new HashMap<>(defaultSettings());
+        settings.put("jdk.ExecutionSample#period", config.samplingPeriod().toMillis() + " ms");
+        Recording started = new Recording(settings);
+        started.enable(EndpointRequestEvent.NAME).withThreshold(config.threshold());
+        started.setName("profiling");
+        started.setToDisk(true);
+        started.setMaxSize(config.maxSize().asLongValue());
+        Duration max = config.maxDuration();
+        started.setDuration(duration.filter(requested -> requested.compareTo(max) < 0).orElse(max));
+        started.start();
+        recording = started;
+        return true;
+    }
+
+    private static Map<String, String> defaultSettings() throws IOException {
+        try {
+            return Configuration.getConfiguration("default").getSettings();
+        } catch (ParseException e) {
+            throw new IOException("default.jfc of the JDK could not be read", e);
+        }
+    }
+
+    /**
+     * Stops the recording, unless it has stopped by itself, and writes it to a temporary file.
+     *
+     * @return the {@code .jfr} file, which the caller deletes, empty if there is no recording
+     */
+    public synchronized Optional<Path> stop() throws IOException {
+        if (recording == null) {
+            return Optional.empty();
+        }
+        try (Recording stopped = recording) {
+            recording = null;
+            if (stopped.getState() == RecordingState.RUNNING) {
+                stopped.stop();
+            }
+            Path file = Files.createTempFile("profile", ".jfr");
+            try {
+                stopped.dump(file);
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return Optional.of(file);
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.acme.spring.web.profiling;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "profiling")
+public interface ProfilingConfig {
+
+    /**
+     * Whether {@code /q/profiling} starts and stops Flight Recorder recordings. Whoever reaches it can profile the
+     * application and download what the recording saw, so it has to be kept from the outside, like {@code /q/metrics}.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Longest recording, it stops by itself after that; also the duration of a recording started without one.
+     */
+    @WithDefault("5m")
+    Duration maxDuration();
+
+    /**
+     * Disk space the recording may take, the oldest events are dropped beyond.
+     */
+    @WithDefault("64M")
+    MemorySize maxSize();
+
+    /**
+     * Period at which the stack of every thread running Java code is sampled, the JDK's {@code default} settings use
+     * 20 ms and its {@code profile} settings 10 ms.
+     */
+    @WithDefault("20ms")
+    Duration samplingPeriod();
+
+    /**
+     * Requests shorter than this are not recorded as {@code org.acme.spring.web.EndpointRequest} events, none if
+     * {@code 0}.
+     */
+    @WithDefault("0ms")
+    Duration threshold();
+}
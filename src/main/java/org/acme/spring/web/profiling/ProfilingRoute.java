@@ -0,0 +1,106 @@
+package org.acme.spring.web.profiling;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * {@code POST /q/profiling/start?duration=30s} starts a recording of the {@link Profiler}, for a positive duration,
+ * {@code POST /q/profiling/stop} stops it and answers with the {@code .jfr} file, or its execution samples as
+ * {@link CollapsedStacks} with {@code ?format=collapsed}. Both answer 409 when the other one is expected. Only when
+ * {@link ProfilingConfig#enabled()}, on worker threads, since the recording is written to and read from disk.
+ */
+@Singleton
+public class ProfilingRoute {
+    static final String PATH = "/q/profiling";
+    static final String JFR = "jfr";
+    static final String COLLAPSED = "collapsed";
+
+    private final Profiler profiler;
+
+    public ProfilingRoute(Profiler profiler) {
+        this.profiler = profiler;
+    }
+
+    void register(@Observes Router router) {
+        if (profiler.isEnabled()) {
+            router.post(PATH + "/start").blockingHandler(this::start);
+            router.post(PATH + "/stop").blockingHandler(this::stop);
+        }
+    }
+
+    private void start(RoutingContext context) {
+        String value = context.request().getParam("duration");
+        Optional<Duration> duration;
+        try {
+            duration = Optional.ofNullable(value).map(DurationConverter::parseDuration);
+        } catch (IllegalArgumentException e) {
+            end(context, 400, "invalid duration: " + value);
+            return;
+        }
+        if (duration.isPresent() && !duration.get().isPositive()) {
+            end(context, 400, "invalid duration: " + value);
+            return;
+        }
+        try {
+            if (profiler.start(duration)) {
+                context.response().setStatusCode(204).end();
+            } else {
+                end(context, 409, "a recording is running already");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void stop(RoutingContext context) {
+        String format = Optional.ofNullable(context.request().getParam("format")).orElse(JFR);
+        if (!format.equals(JFR) && !format.equals(COLLAPSED)) {
+            end(context, 400, "format is " + JFR + " or " + COLLAPSED);
+            return;
+        }
+        Path file;
+        try {
+            Optional<Path> stopped = profiler.stop();
+            if (stopped.isEmpty()) {
+                end(context, 409, "no recording to stop");
+                return;
+            }
+            file = stopped.get();
+            if (format.equals(COLLAPSED)) {
+                String stacks;
+                try {
+                    stacks = CollapsedStacks.of(file);
+                } finally {
+                    Files.delete(file);
+                }
+                end(context, 200, stacks);
+                return;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        context.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/octet-stream")
+                .putHeader("Content-Disposition", "attachment; filename=\"profile.jfr\"")
+                .sendFile(file.toString())
+                .onComplete(sent -> file.toFile().delete());
+    }
+
+    private static void end(RoutingContext context, int status, String text) {
+        HttpServerResponse response = context.response().setStatusCode(status);
+        response.putHeader(HttpHeaders.CONTENT_TYPE, "text/plain;charset=UTF-8").end(text);
+    }
+}
@@ -0,0 +1,97 @@
+package org.acme.spring.web.validation;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.validation.Valid;
+
+/**
+ * The parameter and return value constraints of one method, as far as {@link ValidationPlan} can compile them.
+ * <p>
+ * Supported are methods that are not overriding anything, without cross-parameter or return value constraints, whose
+ * parameters either carry no constraint at all or only {@link Valid} on a type with a {@link ValidationPlan}.
+ */
+final class ExecutablePlan {
+    private static final ConcurrentMap<Executable, Optional<ExecutablePlan>> PLANS = new ConcurrentHashMap<>();
+
+    private final Class<?>[] cascadedTypes;
+    private final ValidationPlan[] cascaded;
+
+    private ExecutablePlan(Class<?>[] cascadedTypes, ValidationPlan[] cascaded) {
+        this.cascadedTypes = cascadedTypes;
+        this.cascaded = cascaded;
+    }
+
+    /**
+     * @return the compiled plan, empty if the constraints of {@code method} are left to Hibernate Validator
+     */
+    static Optional<ExecutablePlan> of(Method method) {
+        Optional<ExecutablePlan> plan = PLANS.get(method);
+        if (plan == null) {
+            plan = PLANS.computeIfAbsent(method, ExecutablePlan::compile);
+        }
+        return plan;
+    }
+
+    /**
+     * @return {@code true} if all parameters satisfy their constraints, {@code false} if one of them is violated or
+     *         is of a subtype the plan has not been compiled for
+     */
+    boolean isSatisfiedBy(Object[] parameters) {
+        for (int i = 0; i < cascaded.length; i++) {
+            ValidationPlan plan = cascaded[i];
+            Object parameter = parameters[i];
+            if (plan == null || parameter == null) {
+                continue;
+            }
+            if (parameter.getClass() != cascadedTypes[i] || !plan.isSatisfiedBy(parameter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<ExecutablePlan> compile(Executable executable) {
+        if (overridesAnything(executable) || ValidationPlan.hasConstraints(executable.getAnnotations())
+                || executable.isAnnotationPresent(Valid.class)
+                || ValidationPlan.hasConstraints(executable.getAnnotatedReturnType().getAnnotations())) {
+            return Optional.empty();
+        }
+        Parameter[] parameters = executable.getParameters();
+        Class<?>[] cascadedTypes = new Class<?>[parameters.length];
+        ValidationPlan[] cascaded = new ValidationPlan[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            if (ValidationPlan.hasConstraints(parameter.getAnnotations())
+                    || ValidationPlan.hasContainerElementConstraints(parameter.getAnnotatedType())) {
+                return Optional.empty();
+            }
+            if (parameter.isAnnotationPresent(Valid.class)) {
+                Optional<ValidationPlan> plan = ValidationPlan.of(parameter.getType());
+                if (plan.isEmpty()) {
+                    return Optional.empty();
+                }
+                cascadedTypes[i] = parameter.getType();
+                cascaded[i] = plan.get();
+            }
+        }
+        return Optional.of(new ExecutablePlan(cascadedTypes, cascaded));
+    }
+
+    /**
+     * Hibernate Validator merges the constraints of overridden methods, so anything that might override or implement
+     * another method is left to it.
+     */
+    private static boolean overridesAnything(Executable executable) {
+        if (!(executable instanceof Method method) || Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        Class<?> declaringClass = method.getDeclaringClass();
+        return declaringClass.getSuperclass() != Object.class || declaringClass.getInterfaces().length > 0;
+    }
+}
@@ -0,0 +1,99 @@
+package org.acme.spring.web.validation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+
+/**
+ * Replaces the {@link Validator} used by the {@code @Valid} interceptor of the REST endpoints.
+ * <p>
+ * Parameters of methods with an {@link ExecutablePlan} are checked with plain null and length checks first. Only if
+ * a check fails, or if the method cannot be compiled at all, Hibernate Validator runs and produces the violations, so
+ * the violation responses stay exactly the same while valid requests skip Hibernate Validator completely.
+ */
+@Alternative
+@Priority(1)
+@Singleton
+public class FastPathValidator implements Validator, ExecutableValidator {
+    private final Validator delegate;
+
+    @Inject
+    public FastPathValidator(ValidatorFactory validatorFactory) {
+        this.delegate = validatorFactory.getValidator();
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+        if (groups.length == 0) {
+            Optional<ExecutablePlan> plan = ExecutablePlan.of(method);
+            if (plan.isPresent() && plan.get().isSatisfiedBy(parameterValues)) {
+                return Set.of();
+            }
+        }
+        return delegate.forExecutables().validateParameters(object, method, parameterValues, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
+        if (groups.length == 0 && ExecutablePlan.of(method).isPresent()) {
+            return Set.of();
+        }
+        return delegate.forExecutables().validateReturnValue(object, method, returnValue, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues,
+            Class<?>... groups) {
+        return delegate.forExecutables().validateConstructorParameters(constructor, parameterValues, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject,
+            Class<?>... groups) {
+        return delegate.forExecutables().validateConstructorReturnValue(constructor, createdObject, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        return delegate.validate(object, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+        return delegate.validateProperty(object, propertyName, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+        return delegate.validateValue(beanType, propertyName, value, groups);
+    }
+
+    @Override
+    public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+        return delegate.getConstraintsForClass(clazz);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        return delegate.unwrap(type);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return this;
+    }
+}
@@ -0,0 +1,19 @@
+package org.acme.spring.web.validation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.NameBinding;
+
+/**
+ * Checks the query parameters of a {@code @Valid} {@link org.acme.spring.web.entity.HelloParamCheatedWithQueryParam}
+ * of the annotated endpoints before anything is bound, answering requests that cannot be valid right away with the
+ * violations Hibernate Validator would have reported, see {@link PreValidation}.
+ */
+@NameBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PreValidated {
+}
@@ -0,0 +1,108 @@
+package org.acme.spring.web.validation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.ws.rs.core.Response;
+
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.hibernate.validator.runtime.jaxrs.ViolationReport;
+
+/**
+ * The {@link RejectedQueries} of each {@link PreValidated} endpoint, created on its first request.
+ * <p>
+ * The bodies are the {@link ViolationReport} Quarkus answers a {@code ConstraintViolationException} with, serialized
+ * by the same {@link ObjectMapper}, with the messages Hibernate Validator gives for the violated constraints and the
+ * paths it would report for the endpoint. Rejections are counted as {@code pre-validation.rejected}, tagged with
+ * {@code endpoint} like the {@link org.acme.spring.web.metrics.EndpointMetrics}.
+ */
+@Singleton
+public class PreValidation {
+    private final PreValidationConfig config;
+    private final Validator validator;
+    private final ObjectMapper mapper;
+    private final MeterRegistry registry;
+    private final ConcurrentMap<RuntimeResource, RejectedQueries> routes = new ConcurrentHashMap<>();
+
+    public PreValidation(PreValidationConfig config, ValidatorFactory validatorFactory, ObjectMapper mapper,
+            MeterRegistry registry) {
+        this.config = config;
+        this.validator = validatorFactory.getValidator();
+        this.mapper = mapper;
+        this.registry = registry;
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    /**
+     * @return the rejections of {@code resource}, {@code null} if it has no {@link HelloParamCheatedWithQueryParam}
+     *         parameter
+     */
+    RejectedQueries rejections(RuntimeResource resource) {
+        RejectedQueries rejections = routes.get(resource);
+        if (rejections == null) {
+            rejections = routes.computeIfAbsent(resource, this::create);
+        }
+        return rejections == RejectedQueries.NONE ? null : rejections;
+    }
+
+    private RejectedQueries create(RuntimeResource resource) {
+        Method method = resource.getLazyMethod().getResourceMethod();
+        int parameter = Arrays.asList(method.getParameterTypes()).indexOf(HelloParamCheatedWithQueryParam.class);
+        if (parameter < 0) {
+            return RejectedQueries.NONE;
+        }
+        String path = method.getName() + "." + method.getParameters()[parameter].getName() + ".";
+        byte[][] bodies = new byte[QueryViolations.COMBINATIONS][];
+        for (int violations = 1; violations < bodies.length; violations++) {
+            if ((violations & QueryViolations.NAME_NULL) != 0 && (violations & QueryViolations.NAME_EMPTY) != 0) {
+                continue;
+            }
+            List<ViolationReport.Violation> reported = new ArrayList<>();
+            if ((violations & QueryViolations.TITLE_NULL) != 0) {
+                report(reported, path, "title", null);
+            }
+            if ((violations & QueryViolations.NAME_NULL) != 0) {
+                report(reported, path, "name", null);
+            }
+            if ((violations & QueryViolations.NAME_EMPTY) != 0) {
+                report(reported, path, "name", "");
+            }
+            try {
+                bodies[violations] = mapper.writeValueAsBytes(
+                        new ViolationReport("Constraint Violation", Response.Status.BAD_REQUEST, reported));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize the violations of " + method, e);
+            }
+        }
+        String endpoint = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        Counter rejected = Counter.builder("pre-validation.rejected")
+                .description("Requests to an endpoint rejected from their query string before binding")
+                .tag("endpoint", endpoint).register(registry);
+        return new RejectedQueries(bodies, Arrays.asList(resource.getProduces().getSortedMediaTypes()), rejected);
+    }
+
+    private void report(List<ViolationReport.Violation> reported, String path, String property, Object value) {
+        for (ConstraintViolation<HelloParamCheatedWithQueryParam> violation : validator
+                .validateValue(HelloParamCheatedWithQueryParam.class, property, value)) {
+            reported.add(new ViolationReport.Violation(path + property, violation.getMessage()));
+        }
+    }
+}
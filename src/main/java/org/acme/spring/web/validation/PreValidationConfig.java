@@ -0,0 +1,15 @@
+package org.acme.spring.web.validation;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "pre-validation")
+public interface PreValidationConfig {
+
+    /**
+     * Whether requests to {@link PreValidated} endpoints with a missing {@code name} or an unknown {@code title} are
+     * rejected from their raw query string, instead of going through binding and Hibernate Validator.
+     */
+    @WithDefault("true")
+    boolean enabled();
+}
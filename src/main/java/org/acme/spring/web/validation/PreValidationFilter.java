@@ -0,0 +1,73 @@
+package org.acme.spring.web.validation;
+
+import java.util.List;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.acme.spring.web.entity.UnknownTitleException;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
+
+import io.quarkus.hibernate.validator.runtime.jaxrs.ValidatorMediaTypeUtil;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Rejects requests to {@link PreValidated} endpoints whose raw query string violates a constraint, on the event loop
+ * before the concurrency limit, binding, validation or a move to a worker thread, without any exception.
+ * <p>
+ * The response is the one the {@code ConstraintViolationException} would have led to: status, body, the
+ * {@code validation-exception} header and the media type negotiated the same way, {@code application/problem+json}
+ * in place of JSON if the client accepts it, the body being a problem details document already. Requests this filter
+ * cannot answer identically are left alone: those accepting only a type the violations are not reported in as JSON,
+ * those with an {@code Accept-Language}, whose messages Hibernate Validator might localize, and those whose query
+ * cannot be decided from its raw form. An unknown title is answered with the 400 of {@link UnknownTitleException},
+ * like the binding would.
+ */
+public class PreValidationFilter {
+    private static final MediaType PROBLEM_JSON = new MediaType("application", "problem+json");
+    private static final String VALIDATION_HEADER = "validation-exception";
+
+    private final PreValidation preValidation;
+
+    public PreValidationFilter(PreValidation preValidation) {
+        this.preValidation = preValidation;
+    }
+
+    @ServerRequestFilter(nonBlocking = true, priority = Integer.MIN_VALUE + 2)
+    @PreValidated
+    public Response reject(ResteasyReactiveContainerRequestContext request, HttpServerRequest serverRequest) {
+        if (!preValidation.isEnabled() || serverRequest.headers().contains(HttpHeaders.ACCEPT_LANGUAGE)) {
+            return null;
+        }
+        int violations = QueryViolations.of(serverRequest.query());
+        if (violations == 0 || violations == QueryViolations.UNDECIDED) {
+            return null;
+        }
+        ResteasyReactiveRequestContext context = (ResteasyReactiveRequestContext) request.getServerRequestContext();
+        RejectedQueries rejections = preValidation.rejections(context.getTarget());
+        if (rejections == null) {
+            return null;
+        }
+        if (violations == QueryViolations.UNKNOWN_TITLE) {
+            rejections.rejected().increment();
+            return UnknownTitleException.response();
+        }
+        List<MediaType> acceptable = context.getHttpHeaders().getAcceptableMediaTypes();
+        MediaType type = ValidatorMediaTypeUtil.getAcceptMediaType(acceptable, rejections.produces());
+        if (!MediaType.APPLICATION_JSON_TYPE.isCompatible(type)) {
+            return null;
+        }
+        for (MediaType accepted : acceptable) {
+            if (accepted.getType().equals(PROBLEM_JSON.getType()) && accepted.getSubtype().equals(PROBLEM_JSON.getSubtype())) {
+                type = PROBLEM_JSON;
+                break;
+            }
+        }
+        rejections.rejected().increment();
+        return Response.status(Response.Status.BAD_REQUEST).header(VALIDATION_HEADER, "true").type(type)
+                .entity(rejections.bodies()[violations]).build();
+    }
+}
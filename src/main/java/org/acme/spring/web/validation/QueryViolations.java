@@ -0,0 +1,118 @@
+package org.acme.spring.web.validation;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+import org.acme.spring.web.entity.Title;
+
+/**
+ * The constraints of {@link org.acme.spring.web.entity.HelloParamCheatedWithQueryParam} that a raw query string
+ * violates, as a set of bits. Parameters are separated by {@code &}, the first of repeated parameters counts and a
+ * parameter without {@code =} has an empty value, as Quarkus REST binds them.
+ */
+final class QueryViolations {
+    /**
+     * {@code title} is missing, which binds to {@code null}.
+     */
+    static final int TITLE_NULL = 1;
+    /**
+     * {@code name} is missing, which violates both its {@code @NotNull} and its {@code @NotEmpty}.
+     */
+    static final int NAME_NULL = 2;
+    /**
+     * {@code name} is empty.
+     */
+    static final int NAME_EMPTY = 4;
+    /**
+     * All combinations of the bits above, as array size.
+     */
+    static final int COMBINATIONS = 8;
+    /**
+     * The query cannot be decided without decoding it completely, e.g. an encoded parameter name or a malformed
+     * escape, which fails the request before validation.
+     */
+    static final int UNDECIDED = -1;
+    /**
+     * {@code title} is not a {@link Title}, empty included, which fails the binding with an
+     * {@link org.acme.spring.web.entity.UnknownTitleException} before validation, whatever the other parameters.
+     */
+    static final int UNKNOWN_TITLE = -2;
+
+    private static final String TITLE = "title";
+    private static final String NAME = "name";
+
+    private QueryViolations() {
+    }
+
+    /**
+     * @param query the raw query string, {@code null} if the request has none
+     * @return the bits of the violated constraints, {@code 0} if there are none, {@link #UNDECIDED} or
+     *         {@link #UNKNOWN_TITLE}
+     */
+    static int of(String query) {
+        if (query == null) {
+            return TITLE_NULL | NAME_NULL;
+        }
+        boolean escaped = query.indexOf('%') >= 0;
+        if (escaped && !hasWellFormedEscapes(query)) {
+            return UNDECIDED;
+        }
+        int violations = TITLE_NULL | NAME_NULL;
+        boolean titleSeen = false;
+        boolean nameSeen = false;
+        int length = query.length();
+        for (int start = 0; start <= length;) {
+            int end = query.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+            int equals = query.indexOf('=', start);
+            int keyEnd = equals < 0 || equals > end ? end : equals;
+            int valueStart = keyEnd == end ? end : keyEnd + 1;
+            if (escaped && indexOf(query, '%', start, keyEnd) >= 0) {
+                return UNDECIDED;
+            }
+            if (!titleSeen && is(query, start, keyEnd, TITLE)) {
+                titleSeen = true;
+                if (!isTitle(query, valueStart, end)) {
+                    return UNKNOWN_TITLE;
+                }
+                violations &= ~TITLE_NULL;
+            } else if (!nameSeen && is(query, start, keyEnd, NAME)) {
+                nameSeen = true;
+                violations &= ~NAME_NULL;
+                if (valueStart == end) {
+                    violations |= NAME_EMPTY;
+                }
+            }
+            start = end + 1;
+        }
+        return violations;
+    }
+
+    private static boolean isTitle(String query, int start, int end) {
+        if (indexOf(query, '%', start, end) < 0) {
+            return Title.lookup(query, start, end - start).isPresent();
+        }
+        return Title.lookup(URLDecoder.decode(query.substring(start, end), StandardCharsets.UTF_8)).isPresent();
+    }
+
+    private static boolean is(String query, int start, int end, String key) {
+        return end - start == key.length() && query.startsWith(key, start);
+    }
+
+    private static int indexOf(String query, char c, int start, int end) {
+        int index = query.indexOf(c, start);
+        return index < end ? index : -1;
+    }
+
+    private static boolean hasWellFormedEscapes(String query) {
+        for (int i = query.indexOf('%'); i >= 0; i = query.indexOf('%', i + 3)) {
+            if (i + 2 >= query.length() || Character.digit(query.charAt(i + 1), 16) < 0
+                    || Character.digit(query.charAt(i + 2), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package org.acme.spring.web.validation;
+
+import java.util.List;
+
+import jakarta.ws.rs.core.MediaType;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * The pre-serialized violation bodies of one {@link PreValidated} endpoint, indexed by {@link QueryViolations} bits.
+ *
+ * @param produces the media types of the endpoint, which the type of the violation response is negotiated against
+ */
+record RejectedQueries(byte[][] bodies, List<MediaType> produces, Counter rejected) {
+    /**
+     * Marks endpoints without parameters to check.
+     */
+    static final RejectedQueries NONE = new RejectedQueries(new byte[0][], List.of(), null);
+}
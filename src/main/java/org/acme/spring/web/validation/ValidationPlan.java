@@ -0,0 +1,249 @@
+package org.acme.spring.web.validation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.function.Predicate;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Null;
+import jakarta.validation.constraints.Size;
+
+/**
+ * The constraints of one bean class compiled into plain null and length checks on its fields.
+ * <p>
+ * A plan only exists for classes whose constraints are all understood: field level {@link NotNull},
+ * {@link NotEmpty}, {@link NotBlank}, {@link Null} and {@link Size} in the default group. Class level constraints,
+ * constrained getters, cascades, container element constraints and custom constraints leave the class to Hibernate
+ * Validator.
+ */
+final class ValidationPlan {
+    private static final ClassValue<Optional<ValidationPlan>> PLANS = new ClassValue<>() {
+        @Override
+        protected Optional<ValidationPlan> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final Predicate<Object>[] checks;
+
+    private ValidationPlan(Predicate<Object>[] checks) {
+        this.checks = checks;
+    }
+
+    /**
+     * @return the compiled plan, empty if {@code type} has constraints only Hibernate Validator can check
+     */
+    static Optional<ValidationPlan> of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * @return {@code true} if {@code bean} satisfies all constraints, {@code false} if at least one is violated
+     */
+    boolean isSatisfiedBy(Object bean) {
+        for (Predicate<Object> check : checks) {
+            if (!check.test(bean)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<ValidationPlan> compile(Class<?> type) {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || isContainer(type)) {
+            return Optional.empty();
+        }
+        List<Predicate<Object>> checks = new ArrayList<>();
+        for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+            if (hasConstrainedMethods(current)) {
+                return Optional.empty();
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (field.isAnnotationPresent(Valid.class) || hasContainerElementConstraints(field.getAnnotatedType())) {
+                    return Optional.empty();
+                }
+                MethodHandle getter = null;
+                for (Annotation annotation : field.getAnnotations()) {
+                    if (!isConstraint(annotation)) {
+                        continue;
+                    }
+                    Predicate<Object> check = check(annotation);
+                    if (check == null) {
+                        return Optional.empty();
+                    }
+                    if (getter == null) {
+                        getter = getter(field);
+                    }
+                    MethodHandle fieldGetter = getter;
+                    checks.add(bean -> check.test(get(fieldGetter, bean)));
+                }
+            }
+        }
+        return Optional.of(new ValidationPlan(checks.toArray(Predicate[]::new)));
+    }
+
+    /**
+     * Hibernate Validator cascades into the elements of these instead of the container itself.
+     */
+    private static boolean isContainer(Class<?> type) {
+        return Iterable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type == Optional.class
+                || type == OptionalInt.class || type == OptionalLong.class || type == OptionalDouble.class;
+    }
+
+    /**
+     * Interfaces are fine as long as they do not declare constraints themselves; Quarkus REST for example adds
+     * {@code ResteasyReactiveInjectionTarget} to bean param classes at build time.
+     */
+    private static boolean hasConstrainedMethods(Class<?> type) {
+        if (hasConstraints(type.getAnnotations())) {
+            return true;
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            if (hasConstraints(method.getAnnotations()) || method.isAnnotationPresent(Valid.class)
+                    || hasConstraints(method.getAnnotatedReturnType().getAnnotations())) {
+                return true;
+            }
+        }
+        for (Class<?> implemented : type.getInterfaces()) {
+            if (hasConstrainedMethods(implemented)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the check for a built-in constraint in the default group, {@code null} if it cannot be compiled
+     */
+    private static Predicate<Object> check(Annotation annotation) {
+        if (annotation instanceof NotNull notNull && notNull.groups().length == 0) {
+            return value -> value != null;
+        }
+        if (annotation instanceof Null isNull && isNull.groups().length == 0) {
+            return value -> value == null;
+        }
+        if (annotation instanceof NotEmpty notEmpty && notEmpty.groups().length == 0) {
+            return value -> value != null && size(value) > 0;
+        }
+        if (annotation instanceof NotBlank notBlank && notBlank.groups().length == 0) {
+            return value -> value instanceof CharSequence chars && !isBlank(chars);
+        }
+        if (annotation instanceof Size size && size.groups().length == 0) {
+            int min = size.min();
+            int max = size.max();
+            return value -> {
+                if (value == null) {
+                    return true;
+                }
+                int length = size(value);
+                return length >= min && length <= max;
+            };
+        }
+        return null;
+    }
+
+    private static int size(Object value) {
+        if (value instanceof CharSequence chars) {
+            return chars.length();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value);
+        }
+        // not a supported type, fails the check so that Hibernate Validator reports it
+        return -1;
+    }
+
+    /**
+     * Same semantic as Hibernate Validator's {@code NotBlankValidator}: {@code toString().trim().isEmpty()}.
+     */
+    private static boolean isBlank(CharSequence chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            if (chars.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean hasConstraints(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (isConstraint(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConstraint(Annotation annotation) {
+        Class<? extends Annotation> type = annotation.annotationType();
+        // repeated constraints are wrapped into their nested List container annotation
+        return type.isAnnotationPresent(Constraint.class)
+                || (type.getEnclosingClass() != null && type.getEnclosingClass().isAnnotationPresent(Constraint.class));
+    }
+
+    static boolean hasContainerElementConstraints(AnnotatedType type) {
+        if (type instanceof AnnotatedParameterizedType parameterized) {
+            for (AnnotatedType argument : parameterized.getAnnotatedActualTypeArguments()) {
+                if (hasConstraints(argument.getAnnotations()) || argument.isAnnotationPresent(Valid.class)
+                        || hasContainerElementConstraints(argument)) {
+                    return true;
+                }
+            }
+        }
+        if (type instanceof AnnotatedArrayType array) {
+            AnnotatedType component = array.getAnnotatedGenericComponentType();
+            return hasConstraints(component.getAnnotations()) || component.isAnnotationPresent(Valid.class)
+                    || hasContainerElementConstraints(component);
+        }
+        return false;
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("cannot access " + field, e);
+        }
+    }
+
+    private static Object get(MethodHandle getter, Object bean) {
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
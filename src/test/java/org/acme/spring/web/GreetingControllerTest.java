@@ -14,6 +14,7 @@ import java.util.Map;
 
 import org.acme.spring.web.entity.HelloParam;
 import org.acme.spring.web.entity.Title;
+import org.acme.spring.web.entity.UnknownTitleException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -203,6 +204,19 @@ public class GreetingControllerTest {
                     .body("suffix", equalTo("--query-suffix--"));
         }
 
+        @ParameterizedTest
+        @ValueSource(strings = {"/echo-param-cheated-with-query-param", "/echo-param-at-parameter-object-cheated-with-query-param"})
+        void giving400OnUnknownTitle(String uri) {
+            given().when()
+                    .accept(MediaType.APPLICATION_JSON_VALUE)
+                    .queryParam("title", "DR")
+                    .queryParam("name", "--query-name--")
+                    .get(uri)
+                    .then()
+                    .statusCode(400)
+                    .body(equalTo(UnknownTitleException.MESSAGE));
+        }
+
     }
 
     @Nested
@@ -223,6 +237,20 @@ public class GreetingControllerTest {
             given().when().accept(MediaType.APPLICATION_JSON_VALUE).get(uri).then().statusCode(400).body("violations", hasSize(3));
         }
 
+        @ParameterizedTest
+        @ValueSource(strings = {"/echo-param-cheated-with-query-param-with-validations",
+                "/echo-param-at-parameter-object-cheated-with-query-param-with-validations"})
+        void giving400OnUnknownTitle(String uri) {
+            given().when()
+                    .accept(MediaType.APPLICATION_JSON_VALUE)
+                    .queryParam("title", "DR")
+                    .queryParam("name", "--query-name--")
+                    .get(uri)
+                    .then()
+                    .statusCode(400)
+                    .body(equalTo(UnknownTitleException.MESSAGE));
+        }
+
         @ParameterizedTest
         @ValueSource(strings = {"/echo-param-cheated-with-query-param-with-validations",
                 "/echo-param-at-parameter-object-cheated-with-query-param-with-validations"})
@@ -13,6 +13,7 @@ import java.util.Map;
 
 import org.acme.spring.web.entity.HelloParam;
 import org.acme.spring.web.entity.Title;
+import org.acme.spring.web.entity.UnknownTitleException;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
@@ -188,6 +189,19 @@ public class GreetingResourceTest {
                     .body("suffix", equalTo("whatever"));
         }
 
+        @ParameterizedTest
+        @ValueSource(strings = {"/echo-param-with-query-param"})
+        void giving400OnUnknownTitle(String uri) {
+            given().when()
+                    .accept("application/json")
+                    .queryParam("title", "DR")
+                    .queryParam("name", "--query-name--")
+                    .get(uri)
+                    .then()
+                    .statusCode(400)
+                    .body(equalTo(UnknownTitleException.MESSAGE));
+        }
+
         @Disabled("does not work as in pure jaxrs-app!!!")
         @ParameterizedTest
         @ValueSource(strings = {"/echo-param-with-query-param"})
@@ -223,6 +237,19 @@ public class GreetingResourceTest {
             given().when().accept("application/json").get(uri).then().statusCode(400).body("parameterViolations", hasSize(3));
         }
 
+        @ParameterizedTest
+        @ValueSource(strings = {"/echo-param-with-query-param-with-validations"})
+        void giving400OnUnknownTitle(String uri) {
+            given().when()
+                    .accept("application/json")
+                    .queryParam("title", "DR")
+                    .queryParam("name", "--query-name--")
+                    .get(uri)
+                    .then()
+                    .statusCode(400)
+                    .body(equalTo(UnknownTitleException.MESSAGE));
+        }
+
         @ParameterizedTest
         @ValueSource(strings = {"/echo-param-with-query-param-with-validations"})
         void doesUseQueryParams(String uri) {
@@ -0,0 +1,83 @@
+package org.acme.spring.web;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.Map;
+
+import org.acme.spring.web.entity.HelloParam;
+import org.acme.spring.web.entity.Title;
+import org.acme.spring.web.entity.UnknownTitleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.quarkus.test.common.http.TestHTTPEndpoint;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.Response;
+
+@QuarkusTest
+@TestHTTPEndpoint(ReactiveGreetingResource.class)
+class ReactiveGreetingResourceTest {
+    private static final String EVENT_LOOP = "vert.x-eventloop-thread-";
+
+    @Test
+    void greetsOnEventLoop() {
+        given().queryParam("name", "reactive").get("/greeting").then().statusCode(200)
+                .header(ReactiveThreadRecordingFilter.HEADER, startsWith(EVENT_LOOP))
+                .body("phrase", equalTo("hello reactive"));
+        given().get("/greeting").then().statusCode(200).body("phrase", equalTo("hello ?????"));
+    }
+
+    @Test
+    void echoesBodyOnEventLoop() {
+        var param = new HelloParam();
+        param.setTitle(Title.MR);
+        param.setName("bean");
+        param.setSuffix("whatever");
+
+        given().contentType("application/json").body(param).queryParam("name", "--query-name--")
+                .get("/echo-param").then().statusCode(200)
+                .header(ReactiveThreadRecordingFilter.HEADER, startsWith(EVENT_LOOP))
+                .body("title", equalTo("MR")).body("name", equalTo("bean")).body("suffix", equalTo("whatever"));
+    }
+
+    @Test
+    void treatsMissingBodyLikeBlockingRoute() {
+        given().contentType("application/json").get("/echo-param").then().statusCode(204);
+        given().accept("application/json").get("/echo-param").then().statusCode(415);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/echo-param-with-query-param", "/echo-param-with-query-param-with-validations" })
+    void bindsQueryParamsOnEventLoop(String uri) {
+        given().queryParam("title", Title.SIGNORA).queryParam("name", "--query-name--").queryParam("suffix", "--query-suffix--")
+                .get(uri).then().statusCode(200)
+                .header(ReactiveThreadRecordingFilter.HEADER, startsWith(EVENT_LOOP))
+                .body("title", equalTo("SIGNORA")).body("name", equalTo("--query-name--")).body("suffix", equalTo("--query-suffix--"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/echo-param-with-query-param", "/echo-param-with-query-param-with-validations" })
+    void rejectsUnknownTitle(String uri) {
+        given().queryParam("title", "DR").queryParam("name", "x").get(uri).then().statusCode(400)
+                .body(equalTo(UnknownTitleException.MESSAGE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "?title=MR", "?name=x", "?title=MR&name=" })
+    void rejectsInvalidParamsLikeBlockingRoute(String query) {
+        Response reactive = given().accept("application/json").get("/echo-param-with-query-param-with-validations" + query);
+        Response blocking = given().basePath("/jakartars").accept("application/json")
+                .get("/echo-param-with-query-param-with-validations" + query);
+
+        assertThat(reactive.statusCode()).isEqualTo(400);
+        assertThat(reactive.getHeader(ReactiveThreadRecordingFilter.HEADER)).startsWith(EVENT_LOOP);
+        assertThat(reactive.jsonPath().getString("title")).isEqualTo(blocking.jsonPath().getString("title"));
+        // violations come from a set, in no particular order
+        assertThat(reactive.jsonPath().<Map<String, ?>> getList("violations"))
+                .containsExactlyInAnyOrderElementsOf(blocking.jsonPath().getList("violations"));
+    }
+}
@@ -0,0 +1,21 @@
+package org.acme.spring.web;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+/**
+ * Tells the tests which thread has completed a {@link ReactiveGreetingResource} route; response filters run on the
+ * thread that resolved the returned {@code Uni}.
+ */
+public class ReactiveThreadRecordingFilter {
+    static final String HEADER = "X-Reactive-Thread";
+
+    @ServerResponseFilter
+    public void recordThread(ContainerRequestContext request, ContainerResponseContext response) {
+        if (request.getUriInfo().getPath().startsWith("/jakartars/reactive/")) {
+            response.getHeaders().putSingle(HEADER, Thread.currentThread().getName());
+        }
+    }
+}
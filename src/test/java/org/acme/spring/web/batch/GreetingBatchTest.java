@@ -0,0 +1,137 @@
+package org.acme.spring.web.batch;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(GreetingBatchTest.SmallBatches.class)
+class GreetingBatchTest {
+    @TestHTTPResource("/")
+    URI root;
+
+    public static class SmallBatches implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("greeting.batch.max-size", "3");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting/batch", "/jakartars/greeting/batch", "/jakartars/reactive/greeting/batch" })
+    void greetsArrayOfNames(String uri) {
+        String greetings = given().contentType("application/json")
+                .body("[\"a\", null, {\"title\": \"MR\", \"name\": \"b\", \"suffix\": null}]")
+                .post(uri).then().statusCode(200).contentType(GreetingBatch.NDJSON).extract().asString();
+
+        assertThat(greetings.lines().filter(line -> !line.isEmpty()))
+                .containsExactly("{\"phrase\":\"hello a\"}", "{\"phrase\":\"hello ?????\"}", "{\"phrase\":\"hello b\"}");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting/batch", "/jakartars/greeting/batch", "/jakartars/reactive/greeting/batch" })
+    void greetsNewlineDelimitedNames(String uri) {
+        String greetings = given().contentType(GreetingBatch.NDJSON)
+                .body("\"ä\"\n{\"name\": \"\\u00e9\", \"other\": [1, {\"name\": 2}]}\n".getBytes(StandardCharsets.UTF_8))
+                .post(uri).then().statusCode(200).extract().asString();
+
+        assertThat(greetings.lines().filter(line -> !line.isEmpty()))
+                .containsExactly("{\"phrase\":\"hello ä\"}", "{\"phrase\":\"hello é\"}");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting/batch", "/jakartars/greeting/batch", "/jakartars/reactive/greeting/batch" })
+    void greetsNobodyForEmptyBatch(String uri) {
+        given().contentType("application/json").body("[]").post(uri).then().statusCode(200);
+        given().contentType(GreetingBatch.NDJSON).body(new byte[0]).post(uri).then().statusCode(200);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting/batch", "/jakartars/greeting/batch", "/jakartars/reactive/greeting/batch" })
+    void rejectsMalformedBatch(String uri) {
+        given().contentType("application/json").body("[1]").post(uri).then().statusCode(400);
+        given().contentType("application/json").body("[{\"name\": true}]").post(uri).then().statusCode(400);
+        given().contentType("application/json").body("[\"a\"] \"b\"").post(uri).then().statusCode(400);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting/batch", "/jakartars/greeting/batch", "/jakartars/reactive/greeting/batch" })
+    void rejectsBatchBeyondMaxSize(String uri) {
+        given().contentType("application/json").body("[\"a\", \"b\", \"c\"]").post(uri).then().statusCode(200);
+        given().contentType("application/json").body("[\"a\", \"b\", \"c\", \"d\"]").post(uri).then().statusCode(413);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "greeting/batch", "jakartars/greeting/batch" })
+    void greetsNamesBeforeRestOfBodyHasArrived(String uri) throws Exception {
+        HttpResponse<String> response = post(uri, "[\"a\", ", "\"b\"]");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("{\"phrase\":\"hello a\"}\n{\"phrase\":\"hello b\"}\n");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "greeting/batch", "jakartars/greeting/batch" })
+    void abortsStartedResponseBeyondMaxSize(String uri) {
+        assertThatThrownBy(() -> post(uri, "[\"a\", ", "\"b\", \"c\", \"d\"]")).isInstanceOf(IOException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "greeting/batch", "jakartars/greeting/batch" })
+    void abortsStartedResponseOnMalformedRest(String uri) {
+        assertThatThrownBy(() -> post(uri, "[\"a\", ", "1]")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> post(uri, "[\"a\", ", "\"b\"")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> post(uri, "[\"a\"]", " \"b\"")).isInstanceOf(IOException.class);
+    }
+
+    /**
+     * Sends {@code rest} only once the greetings for {@code first} could have been sent, and unlike RestAssured fails
+     * when the response is cut off.
+     */
+    private HttpResponse<String> post(String uri, String first, String rest) throws IOException, InterruptedException {
+        InputStream body = new SequenceInputStream(new ByteArrayInputStream(first.getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    private InputStream delayed;
+
+                    @Override
+                    public int read() throws IOException {
+                        if (delayed == null) {
+                            try {
+                                Thread.sleep(200);
+                            } catch (InterruptedException e) {
+                                throw new InterruptedIOException();
+                            }
+                            delayed = new ByteArrayInputStream(rest.getBytes(StandardCharsets.UTF_8));
+                        }
+                        return delayed.read();
+                    }
+                });
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            HttpRequest request = HttpRequest.newBuilder(root.resolve(uri))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofInputStream(() -> body))
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.acme.spring.web.binary;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.Response;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+@QuarkusTest
+class BinaryNegotiationTest {
+    private static final TypeReference<Map<String, Object>> DOCUMENT = new TypeReference<>() {
+    };
+    private static final ObjectMapper CBOR = new ObjectMapper(new CBORFactory());
+    private static final ObjectMapper SMILE = new ObjectMapper(new SmileFactory());
+
+    private static final String[] URIS = {
+            "/greeting?name=binary",
+            "/jakartars/greeting?name=binary",
+            "/jakartars/reactive/greeting?name=binary",
+            "/echo-param-cheated-with-query-param?title=MR&name=binary",
+            "/echo-param-cheated-with-query-param-with-validations?title=MR&name=binary&suffix=jr",
+            "/jakartars/echo-param-with-query-param?title=SIGNORA&name=binary",
+            "/jakartars/echo-param-with-query-param-with-validations?title=SIR&name=binary",
+            "/jakartars/reactive/echo-param-with-query-param-with-validations?title=MRS&name=binary",
+    };
+
+    @ParameterizedTest
+    @ValueSource(strings = { "*/*", "application/json", "application/cbor;q=0.5, application/json" })
+    void defaultsToJson(String accept) {
+        for (String uri : URIS) {
+            given().header("Accept", accept).get(uri).then().statusCode(200).contentType("application/json");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    void encodesSameDocumentAsJson(String mediaType) throws IOException {
+        ObjectMapper format = mediaType.equals(BinaryMediaType.CBOR) ? CBOR : SMILE;
+        for (String uri : URIS) {
+            Map<String, Object> json = given().get(uri).then().statusCode(200).extract().jsonPath().getMap("");
+
+            Response binary = given().accept(mediaType).get(uri);
+
+            assertThat(binary.statusCode()).as(uri).isEqualTo(200);
+            assertThat(binary.contentType()).as(uri).isEqualTo(mediaType);
+            assertThat(format.readValue(binary.asByteArray(), DOCUMENT)).as(uri).isEqualTo(json);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    void answersEchoBodyInBinary(String mediaType) throws IOException {
+        ObjectMapper format = mediaType.equals(BinaryMediaType.CBOR) ? CBOR : SMILE;
+        for (String uri : new String[] { "/echo-param", "/jakartars/echo-param" }) {
+            Response binary = given().contentType("application/json").accept(mediaType)
+                    .body("{\"title\":\"MR\",\"name\":\"binary\"}").get(uri);
+
+            assertThat(binary.contentType()).as(uri).isEqualTo(mediaType);
+            assertThat(format.readValue(binary.asByteArray(), DOCUMENT)).as(uri)
+                    .containsEntry("title", "MR").containsEntry("name", "binary").containsEntry("suffix", null);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    void reportsViolationsInJson(String mediaType) {
+        given().accept(mediaType).get("/jakartars/echo-param-with-query-param-with-validations?title=MR").then()
+                .statusCode(400).contentType("application/json");
+    }
+}
@@ -0,0 +1,125 @@
+package org.acme.spring.web.cache;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.acme.spring.web.binary.BinaryMediaType;
+import org.acme.spring.web.http.EntityTags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(GreetingCacheTest.Enabled.class)
+class GreetingCacheTest {
+    @Inject
+    GreetingCache cache;
+    @Inject
+    MeterRegistry registry;
+
+    public static class Enabled implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("greeting.cache.enabled", "true");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting", "/jakartars/greeting" })
+    void servesSecondRequestFromCache(String uri) {
+        String name = "cached" + uri.length();
+        double hits = gets("hit");
+        double misses = gets("miss");
+
+        String etag = given().queryParam("name", name).get(uri).then().statusCode(200)
+                .body("phrase", equalTo("hello " + name)).extract().header("ETag");
+        given().queryParam("name", name).get(uri).then().statusCode(200)
+                .header("ETag", etag).body("phrase", equalTo("hello " + name));
+
+        assertThat(gets("hit")).isEqualTo(hits + 1);
+        assertThat(gets("miss")).isEqualTo(misses + 1);
+        assertThat(cache.get(name)).isPresent();
+    }
+
+    @Test
+    void sharesResponsesBetweenSpringAndJakartaRest() {
+        String etag = given().queryParam("name", "shared").get("/greeting").then().statusCode(200).extract().header("ETag");
+
+        given().queryParam("name", "shared").get("/jakartars/greeting").then().statusCode(200).header("ETag", etag);
+    }
+
+    @Test
+    void distinguishesAbsentFromEmptyName() {
+        given().get("/greeting").then().statusCode(200).body("phrase", equalTo("hello ?????"));
+        given().queryParam("name", "").get("/greeting").then().statusCode(200).body("phrase", equalTo("hello "));
+        given().get("/greeting").then().statusCode(200).body("phrase", equalTo("hello ?????"));
+    }
+
+    @Test
+    void answersNotModifiedFromCache() {
+        String etag = given().queryParam("name", "unchanged").get("/greeting").then().statusCode(200).extract().header("ETag");
+
+        given().queryParam("name", "unchanged").header("If-None-Match", etag).get("/greeting").then()
+                .statusCode(304).header("ETag", etag).body(emptyString());
+        given().queryParam("name", "unchanged").header("If-None-Match", "\"other\", W/" + etag).get("/jakartars/greeting").then()
+                .statusCode(304).body(emptyString());
+        given().queryParam("name", "unchanged").header("If-None-Match", "\"other\"").get("/greeting").then()
+                .statusCode(200).body("phrase", equalTo("hello unchanged"));
+    }
+
+    @Test
+    void answersNotModifiedOnMiss() {
+        String etag = EntityTags.etag("{\"phrase\":\"hello evicted\"}".getBytes(StandardCharsets.UTF_8));
+
+        given().queryParam("name", "evicted").header("If-None-Match", etag).get("/greeting").then()
+                .statusCode(304).header("ETag", etag).body(emptyString());
+        assertThat(cache.get("evicted")).isPresent();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { BinaryMediaType.CBOR, BinaryMediaType.SMILE })
+    void leavesBinaryResponsesAlone(String mediaType) {
+        given().queryParam("name", "binary").get("/greeting").then().statusCode(200);
+
+        given().queryParam("name", "binary").accept(mediaType).get("/greeting").then().statusCode(200)
+                .contentType(mediaType).header("ETag", nullValue());
+        given().queryParam("name", "binary").get("/jakartars/greeting").then().statusCode(200)
+                .body("phrase", equalTo("hello binary"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "text/plain", "application/xml" })
+    void leavesRequestsNotAcceptingJsonToNegotiation(String accept) {
+        given().queryParam("name", "negotiated").get("/greeting").then().statusCode(200);
+
+        given().queryParam("name", "negotiated").accept(accept).get("/greeting").then().statusCode(406);
+        given().queryParam("name", "negotiated").accept(accept).get("/jakartars/greeting").then().statusCode(406);
+    }
+
+    @Test
+    void acceptsJsonThroughWildcardsAndParameters() {
+        assertThat(GreetingCacheRoute.acceptsJson(null)).isTrue();
+        assertThat(GreetingCacheRoute.acceptsJson("*/*")).isTrue();
+        assertThat(GreetingCacheRoute.acceptsJson("text/html, application/*;q=0.1")).isTrue();
+        assertThat(GreetingCacheRoute.acceptsJson("Application/JSON; charset=UTF-8")).isTrue();
+        assertThat(GreetingCacheRoute.acceptsJson("text/plain")).isFalse();
+        assertThat(GreetingCacheRoute.acceptsJson("application/json; q=0.0")).isFalse();
+    }
+
+    private double gets(String result) {
+        return registry.get("cache.gets").tag("cache", "greeting").tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,153 @@
+package org.acme.spring.web.echo;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(EchoBodyTest.LargeBodies.class)
+class EchoBodyTest {
+    private static final String URI = "/echo-param-cheated-with-query-param-with-validations?title=MR&name=upload";
+    private static final long MB = 1024 * 1024;
+    private static final byte[] CHUNK = new byte[64 * 1024];
+
+    static {
+        Arrays.fill(CHUNK, (byte) 'x');
+    }
+
+    @TestHTTPResource
+    URL server;
+
+    public static class LargeBodies implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("echo.body.max-size", "400M", "quarkus.http.limits.max-body-size", "1G");
+        }
+    }
+
+    @Test
+    void consumesLargeBodyWithBoundedHeap() throws Exception {
+        long baseline = usedHeapAfterGc();
+        long[] duringUpload = new long[1];
+
+        String response = post("Transfer-Encoding: chunked", out -> {
+            for (long sent = 0; sent < 384 * MB; sent += CHUNK.length) {
+                if (sent == 192 * MB) {
+                    duringUpload[0] = usedHeapAfterGc();
+                }
+                writeChunk(out, CHUNK);
+            }
+            out.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        });
+
+        assertThat(response).startsWith("HTTP/1.1 200").endsWith("{\"title\":\"MR\",\"name\":\"upload\",\"suffix\":null}");
+        // half of the body has been sent, a buffered body would hold at least 192 MB
+        assertThat(duringUpload[0] - baseline).isLessThan(32 * MB);
+    }
+
+    @Test
+    void rejectsDeclaredLengthOverMaxSizeBeforeReading() throws Exception {
+        // no body is sent, the response cannot wait for it
+        String response = post("Content-Length: " + 500 * MB, out -> {
+        });
+
+        assertThat(response).startsWith("HTTP/1.1 413");
+    }
+
+    @Test
+    void rejectsChunkedBodyOnceOverMaxSize() throws Exception {
+        String response = post("Transfer-Encoding: chunked", out -> {
+            for (long sent = 0; sent < 500 * MB; sent += CHUNK.length) {
+                writeChunk(out, CHUNK);
+            }
+            out.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        });
+
+        assertThat(response).startsWith("HTTP/1.1 413");
+    }
+
+    @Test
+    void echoesQueryParamsOfSmallBody() {
+        given().contentType("text/plain").body("small").post(URI).then().statusCode(200)
+                .body("title", equalTo("MR")).body("name", equalTo("upload"));
+    }
+
+    private interface Upload {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Uploads the body on a thread of its own, the response to a rejected body arrives while it is still being sent,
+     * and the connection might be closed before the upload ends.
+     */
+    private String post(String framing, Upload upload) throws Exception {
+        try (Socket socket = new Socket(server.getHost(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST " + URI + " HTTP/1.1\r\nHost: localhost\r\nContent-Type: text/plain\r\n" + framing + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> {
+                try {
+                    upload.write(out);
+                    out.flush();
+                } catch (IOException e) {
+                    // closed after the response
+                }
+            }, command -> Thread.ofPlatform().start(command));
+
+            String response = readResponse(socket.getInputStream());
+            socket.close();
+            sent.join();
+            return response;
+        }
+    }
+
+    private static void writeChunk(OutputStream out, byte[] chunk) throws IOException {
+        out.write((Integer.toHexString(chunk.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(chunk);
+        out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Reads the status line, the headers and a body of {@code Content-Length} bytes.
+     */
+    private static String readResponse(InputStream in) throws IOException {
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        while (!response.toString(StandardCharsets.US_ASCII).endsWith("\r\n\r\n")) {
+            int read = in.read();
+            if (read < 0) {
+                return response.toString(StandardCharsets.US_ASCII);
+            }
+            response.write(read);
+        }
+        String head = response.toString(StandardCharsets.US_ASCII).toLowerCase();
+        int start = head.indexOf("content-length: ");
+        if (start >= 0) {
+            response.write(in.readNBytes(Integer.parseInt(head.substring(start + 16, head.indexOf('\r', start)))));
+        }
+        return response.toString(StandardCharsets.UTF_8);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
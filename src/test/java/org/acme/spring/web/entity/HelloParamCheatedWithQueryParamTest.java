@@ -0,0 +1,19 @@
+package org.acme.spring.web.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jboss.resteasy.reactive.server.injection.ResteasyReactiveInjectionTarget;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class HelloParamCheatedWithQueryParamTest {
+
+    @Test
+    void queryParamsAreBoundByBuildTimeGeneratedInjectorInsteadOfReflection() {
+        // Quarkus REST implements __quarkus_rest_inject() on the DTO at build time, emitting one straight-line
+        // getQueryParameter()/putfield sequence per @QueryParam field
+        assertThat(ResteasyReactiveInjectionTarget.class).isAssignableFrom(HelloParamCheatedWithQueryParam.class);
+    }
+}
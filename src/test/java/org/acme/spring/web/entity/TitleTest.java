@@ -0,0 +1,64 @@
+package org.acme.spring.web.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.annotation.Annotation;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.ext.ParamConverter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TitleTest {
+    private static final ParamConverter<Title> CONVERTER = new TitleParamConverterProvider().getConverter(Title.class, Title.class,
+            new Annotation[0]);
+
+    @ParameterizedTest
+    @EnumSource(Title.class)
+    void findsEveryConstantByItsName(Title title) {
+        assertThat(Title.lookup(title.name())).contains(title);
+        assertThat(Title.lookup(new StringBuilder(title.name()))).contains(title);
+        assertThat(CONVERTER.fromString(title.name())).isSameAs(title);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Title.class)
+    void findsEveryConstantInRawBytes(Title title) {
+        byte[] query = ("title=" + title.name() + "&name=x").getBytes(StandardCharsets.US_ASCII);
+        assertThat(Title.lookup(query, 6, title.name().length())).contains(title);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Title.class)
+    void findsEveryConstantInRawQuery(Title title) {
+        String query = "title=" + title.name() + "&name=x";
+        assertThat(Title.lookup(query, 6, title.name().length())).contains(title);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "M", "mr", "Mr", "MX", "MRX", "SIX", "SIGNORE", "signora", "MRSS", "<script>" })
+    void givesEmptyResultForUnknownTitlesAndRejectsThemWithoutStackTrace(String value) {
+        assertThat(Title.lookup(value)).isEmpty();
+        assertThat(Title.lookup(value.getBytes(StandardCharsets.US_ASCII), 0, value.length())).isEmpty();
+        assertThat(Title.lookup("title=" + value + "&name=x", 6, value.length())).isEmpty();
+        assertThatThrownBy(() -> CONVERTER.fromString(value)).isInstanceOf(UnknownTitleException.class)
+                .hasMessage(UnknownTitleException.MESSAGE).satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Title.class)
+    void listsEveryConstantInUnknownTitleMessage(Title title) {
+        assertThat(UnknownTitleException.MESSAGE.split("one of ")[1].split(", ")).contains(title.name());
+    }
+
+    @Test
+    void givesEmptyResultForNull() {
+        assertThat(Title.lookup(null)).isEmpty();
+        assertThatThrownBy(() -> CONVERTER.fromString(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
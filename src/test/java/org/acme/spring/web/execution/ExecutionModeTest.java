@@ -0,0 +1,57 @@
+package org.acme.spring.web.execution;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.Map;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(ExecutionModeTest.Modes.class)
+class ExecutionModeTest {
+
+    public static class Modes implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("execution.group.echo", "event-loop", "execution.group.validated", "virtual-thread");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting", "/jakartars/greeting" })
+    void runsGroupsWithoutModeOnWorkerThreads(String uri) {
+        given().get(uri).then().statusCode(200)
+                .header(ThreadRecordingFilter.HEADER, startsWith("platform:executor-thread-"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/echo-param-cheated-with-query-param", "/jakartars/echo-param-with-query-param" })
+    void runsEventLoopGroupOnEventLoop(String uri) {
+        given().queryParam("title", "MR").get(uri).then().statusCode(200)
+                .header(ThreadRecordingFilter.HEADER, startsWith("platform:vert.x-eventloop-thread-"))
+                .body("title", equalTo("MR"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/echo-param-cheated-with-query-param-with-validations",
+            "/jakartars/echo-param-with-query-param-with-validations" })
+    void runsVirtualThreadGroupOnVirtualThreads(String uri) {
+        given().queryParam("title", "MR").queryParam("name", "virtual").get(uri).then().statusCode(200)
+                .header(ThreadRecordingFilter.HEADER, startsWith("virtual:"))
+                .body("name", equalTo("virtual"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/echo-param-cheated-with-query-param-with-validations",
+            "/jakartars/echo-param-with-query-param-with-validations" })
+    void validatesOnVirtualThreads(String uri) {
+        given().queryParam("name", "").get(uri).then().statusCode(400);
+    }
+}
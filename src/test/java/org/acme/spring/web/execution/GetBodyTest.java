@@ -0,0 +1,115 @@
+package org.acme.spring.web.execution;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(GetBodyTest.SmallBodies.class)
+class GetBodyTest {
+    private static final String URI = "/jakartars/reactive/echo-param";
+    private static final byte[] CHUNK = new byte[16 * 1024];
+
+    static {
+        Arrays.fill(CHUNK, (byte) ' ');
+    }
+
+    @TestHTTPResource
+    URL server;
+
+    public static class SmallBodies implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.http.limits.max-body-size", "64K");
+        }
+    }
+
+    @Test
+    void readsBodyUnderLimit() {
+        given().contentType("application/json").body("{\"title\":\"MR\",\"name\":\"small\"}").get(URI).then().statusCode(200)
+                .body("name", equalTo("small"));
+    }
+
+    @Test
+    void rejectsDeclaredLengthOverLimitBeforeReading() throws Exception {
+        // no body is sent, the response cannot wait for it
+        String response = get("Content-Length: " + 1024 * 1024, out -> {
+        });
+
+        assertThat(response).startsWith("HTTP/1.1 413");
+    }
+
+    @Test
+    void rejectsChunkedBodyOnceOverLimit() throws Exception {
+        String response = get("Transfer-Encoding: chunked", out -> {
+            // JSON whitespace, valid until the limit and far beyond
+            for (int sent = 0; sent < 64 * 1024 * 1024; sent += CHUNK.length) {
+                out.write((Integer.toHexString(CHUNK.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(CHUNK);
+                out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+            }
+            out.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        });
+
+        assertThat(response).startsWith("HTTP/1.1 413");
+    }
+
+    private interface Upload {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Sends the body on a thread of its own, the response to a rejected body arrives while it is still being sent, and
+     * the connection is closed before the upload ends.
+     */
+    private String get(String framing, Upload upload) throws Exception {
+        try (Socket socket = new Socket(server.getHost(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + URI + " HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n" + framing + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> {
+                try {
+                    upload.write(out);
+                    out.flush();
+                } catch (IOException e) {
+                    // closed after the response
+                }
+            }, command -> Thread.ofPlatform().start(command));
+
+            String response = readHead(socket.getInputStream());
+            socket.close();
+            sent.join();
+            return response;
+        }
+    }
+
+    private static String readHead(InputStream in) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        while (!head.toString(StandardCharsets.US_ASCII).endsWith("\r\n\r\n")) {
+            int read = in.read();
+            if (read < 0) {
+                break;
+            }
+            head.write(read);
+        }
+        return head.toString(StandardCharsets.US_ASCII);
+    }
+}
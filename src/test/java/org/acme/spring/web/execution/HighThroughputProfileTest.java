@@ -0,0 +1,61 @@
+package org.acme.spring.web.execution;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(HighThroughputProfileTest.HighThroughput.class)
+class HighThroughputProfileTest {
+    @TestHTTPResource
+    URL server;
+
+    public static class HighThroughput implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "high-throughput";
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting", "/jakartars/greeting", "/echo-param-cheated-with-query-param" })
+    void runsRoutesWithoutBodyOnEventLoop(String uri) {
+        given().queryParam("title", "MR").queryParam("name", "fast").get(uri).then().statusCode(200)
+                .header(ThreadRecordingFilter.HEADER, startsWith("platform:vert.x-eventloop-thread-"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/echo-param-cheated-with-query-param-with-validations",
+            "/jakartars/echo-param-with-query-param-with-validations" })
+    void runsValidatedRoutesOnWorkerPool(String uri) {
+        given().queryParam("title", "MR").queryParam("name", "checked").get(uri).then().statusCode(200)
+                .header(ThreadRecordingFilter.HEADER, startsWith("platform:executor-thread-"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting", "/jakartars/greeting" })
+    void upgradesCleartextConnectionsToHttp2(String uri) throws Exception {
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build()) {
+            HttpRequest request = HttpRequest.newBuilder(server.toURI().resolve(uri + "?name=h2c")).build();
+
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isEqualTo("{\"phrase\":\"hello h2c\"}");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.acme.spring.web.execution;
+
+import jakarta.ws.rs.container.ContainerResponseContext;
+
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+/**
+ * Tells the tests which thread has run the endpoint; response filters run on the same thread as the invocation.
+ */
+public class ThreadRecordingFilter {
+    static final String HEADER = "X-Execution-Thread";
+
+    @ServerResponseFilter
+    @ExecutionGroup
+    public void recordThread(ContainerResponseContext response) {
+        Thread thread = Thread.currentThread();
+        response.getHeaders().putSingle(HEADER, (thread.isVirtual() ? "virtual:" : "platform:") + thread.getName());
+    }
+}
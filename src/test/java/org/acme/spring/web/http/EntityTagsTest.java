@@ -0,0 +1,28 @@
+package org.acme.spring.web.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class EntityTagsTest {
+
+    @Test
+    void tagsBodyByLengthAndChecksum() {
+        byte[] body = "{\"phrase\":\"hello\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(EntityTags.etag(body)).matches("\"12-[0-9a-f]+\"").isEqualTo(EntityTags.etag(body.clone()));
+        assertThat(EntityTags.etag(body)).isNotEqualTo(EntityTags.etag("{\"phrase\":\"hellO\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void matchesIfNoneMatchWeakly() {
+        assertThat(EntityTags.isNotModified(null, "\"a\"")).isFalse();
+        assertThat(EntityTags.isNotModified("\"b\"", "\"a\"")).isFalse();
+        assertThat(EntityTags.isNotModified("\"a\"", "\"a\"")).isTrue();
+        assertThat(EntityTags.isNotModified("W/\"a\"", "\"a\"")).isTrue();
+        assertThat(EntityTags.isNotModified("\"b\" , \"a\"", "\"a\"")).isTrue();
+        assertThat(EntityTags.isNotModified("*", "\"a\"")).isTrue();
+    }
+}
@@ -0,0 +1,65 @@
+package org.acme.spring.web.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.acme.spring.web.entity.Greeting;
+import org.acme.spring.web.entity.HelloParam;
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.acme.spring.web.entity.Title;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class PreEncodedJsonWriterTest {
+    private static final ObjectMapper JACKSON = new ObjectMapper();
+
+    static Stream<String> values() {
+        return Stream.concat(
+                Stream.of(null, "", "hello ?????", "x", "\"quoted\"", "back\\slash", "/path/", "tab\tnew\nline\r\f\b",
+                        "\u0000\u0001\u001f\u007f", "é ß ü", "€ 中文", "😀 emoji", "lone \ud83d", "\ude00 lone", "<script>&amp;</script>"),
+                IntStream.range(0, 0x100).mapToObj(c -> "c" + (char) c + "c"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void writesGreetingLikeJackson(String phrase) throws JsonProcessingException {
+        Greeting greeting = new Greeting(phrase);
+
+        assertThat(new GreetingJsonWriter().toJson(greeting)).isEqualTo(JACKSON.writeValueAsBytes(greeting));
+    }
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void writesHelloParamLikeJackson(String value) throws JsonProcessingException {
+        HelloParam param = new HelloParam();
+        param.setTitle(Title.MR);
+        param.setName(value);
+        param.setSuffix(value == null ? "jr" : value + "!");
+
+        assertThat(new HelloParamJsonWriter().toJson(param)).isEqualTo(JACKSON.writeValueAsBytes(param));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Title.class)
+    void writesEveryTitleLikeJackson(Title title) throws JsonProcessingException {
+        HelloParamCheatedWithQueryParam param = new HelloParamCheatedWithQueryParam();
+        param.setTitle(title);
+        param.setName("name");
+
+        assertThat(new HelloParamCheatedWithQueryParamJsonWriter().toJson(param)).isEqualTo(JACKSON.writeValueAsBytes(param));
+    }
+
+    @Test
+    void writesEmptyHelloParamLikeJackson() throws JsonProcessingException {
+        HelloParamCheatedWithQueryParam param = new HelloParamCheatedWithQueryParam();
+
+        assertThat(new HelloParamCheatedWithQueryParamJsonWriter().toJson(param)).isEqualTo(JACKSON.writeValueAsBytes(param));
+    }
+}
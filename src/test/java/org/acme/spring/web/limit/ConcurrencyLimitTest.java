@@ -0,0 +1,96 @@
+package org.acme.spring.web.limit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(ConcurrencyLimitTest.SingleRequest.class)
+class ConcurrencyLimitTest {
+    @Inject
+    MeterRegistry registry;
+    @TestHTTPResource
+    URL server;
+
+    public static class SingleRequest implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("concurrency.limit.enabled", "true",
+                    "concurrency.limit.initial-limit", "1",
+                    "concurrency.limit.min-limit", "1",
+                    "concurrency.limit.max-limit", "1",
+                    "concurrency.limit.retry-after", "1500ms");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting/batch", "/jakartars/greeting/batch", "/jakartars/reactive/greeting/batch" })
+    void rejectsRequestsOverLimit(String uri) throws IOException {
+        String endpoint = (uri.startsWith("/jakartars/reactive") ? "ReactiveGreetingResource"
+                : uri.startsWith("/jakartars") ? "GreetingResource" : "GreetingBodyController") + ".helloBatch";
+        try (Socket socket = new Socket(server.getHost(), server.getPort())) {
+            // the batch is in flight until its body ends
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST " + uri + " HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n"
+                    + "Transfer-Encoding: chunked\r\n\r\n1\r\n[\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            awaitInFlight(endpoint);
+
+            given().contentType("application/json").body("[\"rejected\"]").post(uri).then().statusCode(503)
+                    .header("Retry-After", "2");
+            given().queryParam("name", "other").get("/greeting").then().statusCode(200);
+
+            out.write("7\r\n\"held\"]\r\n0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            assertThat(readResponse(socket.getInputStream())).startsWith("HTTP/1.1 200").contains("{\"phrase\":\"hello held\"}");
+        }
+
+        given().contentType("application/json").body("[\"admitted\"]").post(uri).then().statusCode(200)
+                .body(equalTo("{\"phrase\":\"hello admitted\"}\n"));
+        assertThat(registry.get("concurrency.rejected").tag("endpoint", endpoint).functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("concurrency.limit").tag("endpoint", endpoint).gauge().value()).isEqualTo(1);
+    }
+
+    private void awaitInFlight(String endpoint) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (registry.find("concurrency.in.flight").tag("endpoint", endpoint).gauge() == null
+                || registry.get("concurrency.in.flight").tag("endpoint", endpoint).gauge().value() < 1) {
+            assertThat(System.nanoTime()).as("%s in flight", endpoint).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Reads the chunked response up to its last chunk.
+     */
+    private static String readResponse(InputStream in) throws IOException {
+        StringBuilder response = new StringBuilder();
+        while (response.indexOf("\r\n0\r\n\r\n") < 0) {
+            int read = in.read();
+            if (read < 0) {
+                break;
+            }
+            response.append((char) read);
+        }
+        return response.toString();
+    }
+}
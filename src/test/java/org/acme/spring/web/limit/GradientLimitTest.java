@@ -0,0 +1,100 @@
+package org.acme.spring.web.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class GradientLimitTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long WINDOW = TimeUnit.MILLISECONDS.toNanos(10);
+
+    // ahead of the limits built by the tests, so that their first sample ends a window
+    private long now = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void growsWhileLatencyIsStable() {
+        GradientLimit limit = new GradientLimit(10, 1, 100, 1.5, 0.2, WINDOW);
+
+        for (int i = 0; i < 200; i++) {
+            sample(limit, FAST, limit.get());
+        }
+
+        assertThat(limit.get()).isEqualTo(100);
+    }
+
+    @Test
+    void shrinksWhenLatencyRises() {
+        GradientLimit limit = new GradientLimit(50, 1, 100, 1.5, 0.2, WINDOW);
+        for (int i = 0; i < GradientLimit.LONG_WINDOW; i++) {
+            sample(limit, FAST, 25);
+        }
+        int before = limit.get();
+
+        for (int i = 0; i < 20; i++) {
+            sample(limit, 10 * FAST, limit.get());
+        }
+
+        assertThat(limit.get()).isLessThan(before / 2);
+    }
+
+    @Test
+    void staysWithinBounds() {
+        GradientLimit limit = new GradientLimit(1000, 5, 20, 1.5, 1.0, WINDOW);
+        assertThat(limit.get()).isEqualTo(20);
+        for (int i = 0; i < GradientLimit.LONG_WINDOW; i++) {
+            sample(limit, FAST, 20);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            sample(limit, 1000 * FAST, 20);
+        }
+
+        assertThat(limit.get()).isEqualTo(5);
+    }
+
+    @Test
+    void learnsNothingWhileMostlyIdle() {
+        GradientLimit limit = new GradientLimit(10, 1, 100, 1.5, 0.2, WINDOW);
+
+        for (int i = 0; i < 100; i++) {
+            sample(limit, FAST, 1);
+        }
+
+        assertThat(limit.get()).isEqualTo(10);
+    }
+
+    @Test
+    void adjustsOncePerWindow() {
+        GradientLimit limit = new GradientLimit(10, 1, 100, 1.5, 0.2, WINDOW);
+        sample(limit, FAST, 10);
+        int first = limit.get();
+
+        for (int i = 0; i < 100; i++) {
+            limit.sample(FAST, limit.get(), now);
+        }
+        assertThat(limit.get()).isEqualTo(first);
+
+        limit.sample(FAST, limit.get(), now + WINDOW);
+        assertThat(limit.get()).isGreaterThan(first);
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new GradientLimit(10, 0, 100, 1.5, 0.2, WINDOW)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientLimit(10, 20, 10, 1.5, 0.2, WINDOW)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientLimit(10, 1, 100, 0.9, 0.2, WINDOW)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientLimit(10, 1, 100, 1.5, 0, WINDOW)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientLimit(10, 1, 100, 1.5, 0.2, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * One request per window, each adjusts the limit.
+     */
+    private void sample(GradientLimit limit, long rttNanos, int inFlight) {
+        now += WINDOW;
+        limit.sample(rttNanos, inFlight, now);
+    }
+}
@@ -0,0 +1,108 @@
+package org.acme.spring.web.limit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.specification.RequestSpecification;
+
+@QuarkusTest
+@TestProfile(RateLimitTest.ThreeRequests.class)
+class RateLimitTest {
+    private static final String KEY = "X-API-Key";
+
+    @Inject
+    MeterRegistry registry;
+
+    public static class ThreeRequests implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            // one token every 10 seconds, none comes back during a test
+            return Map.of("rate.limit.enabled", "true",
+                    "rate.limit.client-header", KEY,
+                    "rate.limit.rate", "0.1",
+                    "rate.limit.burst", "3",
+                    "rate.limit.route.echo.burst", "2",
+                    "greeting.cache.enabled", "true");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/greeting", "/jakartars/greeting", "/jakartars/reactive/greeting" })
+    void rejectsClientOverRate(String uri) {
+        // the second and third requests are cache hits, answered in front of Quarkus REST
+        for (int i = 0; i < 3; i++) {
+            client("noisy " + uri).queryParam("name", "limited").get(uri).then().statusCode(200);
+        }
+
+        client("noisy " + uri).queryParam("name", "limited").get(uri).then().statusCode(429).header("Retry-After", "10");
+        client("noisy " + uri).queryParam("name", "other").get(uri).then().statusCode(429);
+        client("quiet " + uri).get(uri).then().statusCode(200);
+    }
+
+    @Test
+    void sharesRateAcrossUrlFamilies() {
+        client("alternating").queryParam("name", "a").get("/greeting").then().statusCode(200);
+        client("alternating").queryParam("name", "b").get("/jakartars/greeting").then().statusCode(200);
+        client("alternating").queryParam("name", "c").get("/jakartars/reactive/greeting").then().statusCode(200);
+
+        client("alternating").queryParam("name", "d").get("/greeting").then().statusCode(429);
+        // another group, another bucket
+        client("alternating").queryParam("title", "MR").queryParam("name", "e").get("/echo-param-cheated-with-query-param")
+                .then().statusCode(200).body("name", equalTo("e"));
+    }
+
+    @Test
+    void limitsEchoRoutesWithTheirOwnBurst() {
+        client("echo").get("/jakartars/echo-param-with-query-param").then().statusCode(200);
+        client("echo").get("/echo-param-cheated-with-query-param-with-validations?title=MR&name=x").then().statusCode(200);
+
+        client("echo").get("/jakartars/reactive/echo-param-with-query-param").then().statusCode(429);
+        // rejected before pre-validation, whatever the query
+        client("echo").get("/jakartars/echo-param-with-query-param-with-validations?title=DR").then().statusCode(429);
+    }
+
+    @Test
+    void identifiesClientsWithoutHeaderByAddress() {
+        for (int i = 0; i < 2; i++) {
+            given().get("/echo-param-cheated-with-query-param").then().statusCode(200);
+        }
+
+        given().get("/jakartars/echo-param-with-query-param").then().statusCode(429);
+    }
+
+    @Test
+    void leavesOtherRoutesAlone() {
+        for (int i = 0; i < 5; i++) {
+            client("batch").contentType("application/json").body("[\"batch\"]").post("/greeting/batch").then().statusCode(200);
+        }
+    }
+
+    @Test
+    void publishesRejectionsAndClients() {
+        client("counted").contentType("application/json").get("/jakartars/echo-param").then().statusCode(204);
+        client("counted").contentType("application/json").get("/jakartars/echo-param").then().statusCode(204);
+        double before = registry.get("rate.limit.rejected").tag("group", "echo").counter().count();
+
+        client("counted").contentType("application/json").get("/jakartars/echo-param").then().statusCode(429);
+
+        assertThat(registry.get("rate.limit.rejected").tag("group", "echo").counter().count()).isEqualTo(before + 1);
+        assertThat(registry.get("rate.limit.clients").tag("group", "echo").gauge().value()).isPositive();
+    }
+
+    private static RequestSpecification client(String key) {
+        return given().header(KEY, key);
+    }
+}
@@ -0,0 +1,111 @@
+package org.acme.spring.web.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketsTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void admitsBurstThenRate() {
+        TokenBuckets buckets = new TokenBuckets(10, 3, 100);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(buckets.tryAcquire("client", now)).isZero();
+        }
+        assertThat(buckets.tryAcquire("client", now)).isEqualTo(SECOND / 10);
+        assertThat(buckets.tryAcquire("client", now + SECOND / 20)).isEqualTo(SECOND / 20);
+        assertThat(buckets.tryAcquire("client", now + SECOND / 10)).isZero();
+        assertThat(buckets.tryAcquire("client", now + SECOND / 10)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    void refillsUpToBurst() {
+        TokenBuckets buckets = new TokenBuckets(10, 3, 100);
+        long now = System.nanoTime();
+        buckets.tryAcquire("client", now);
+
+        long later = now + 10 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(buckets.tryAcquire("client", later)).isZero();
+        }
+        assertThat(buckets.tryAcquire("client", later)).isPositive();
+    }
+
+    @Test
+    void keepsBucketPerClient() {
+        TokenBuckets buckets = new TokenBuckets(1, 1, 100);
+        long now = System.nanoTime();
+
+        assertThat(buckets.tryAcquire("noisy", now)).isZero();
+        assertThat(buckets.tryAcquire("noisy", now)).isPositive();
+        assertThat(buckets.tryAcquire("quiet", now)).isZero();
+        assertThat(buckets.clients()).isEqualTo(2);
+    }
+
+    @Test
+    void admitsBurstOnceAcrossThreads() throws InterruptedException {
+        TokenBuckets buckets = new TokenBuckets(0.001, 1000, 100);
+        long now = System.nanoTime();
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                await(start);
+                for (int i = 0; i < 500; i++) {
+                    if (buckets.tryAcquire("shared", now) == 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(admitted).hasValue(1000);
+    }
+
+    @Test
+    void boundsNumberOfClients() throws InterruptedException {
+        TokenBuckets buckets = new TokenBuckets(1, 1, 100);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 10_000; i++) {
+            buckets.tryAcquire("client-" + i, now);
+        }
+
+        // evictions run in the background
+        long deadline = System.nanoTime() + 10 * SECOND;
+        while (buckets.clients() > 100) {
+            assertThat(System.nanoTime()).as("clients evicted").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveRateOrBurst() {
+        assertThatThrownBy(() -> new TokenBuckets(0, 1, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBuckets(1, 0, 100)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.acme.spring.web.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.acme.spring.web.entity.HelloParam;
+import org.acme.spring.web.entity.Title;
+import org.assertj.core.api.SoftAssertions;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * The scenarios of {@code GreetingControllerTest} and {@code GreetingResourceTest} under load: valid and missing
+ * parameters, unknown titles and bodies on {@code GET}, for both stacks. Runs with {@code -Pload} only, e.g.
+ * {@code ./mvnw test -Pload -Dload.rate=400 -Dload.duration=30}, and writes its report to
+ * {@code target/load/GreetingLoadTest.txt}.
+ * <p>
+ * Fails on any unexpected status, on a scenario falling behind its share of the rate by more than 10%, and on a p99
+ * latency above {@code load.max-p99}, 1 second unless set.
+ */
+@QuarkusTest
+@Tag("load")
+class GreetingLoadTest {
+    private static final Logger LOG = Logger.getLogger(GreetingLoadTest.class);
+    private static final String VALIDATED = "/echo-param-cheated-with-query-param-with-validations";
+    private static final String JAKARTA_VALIDATED = "/jakartars/echo-param-with-query-param-with-validations";
+
+    @Test
+    void replaysScenariosAtRate() throws Exception {
+        LoadHarness harness = LoadHarness.fromSystemProperties(200, Duration.ofSeconds(3), Duration.ofSeconds(10), 256);
+        Duration maxP99 = Duration.parse(System.getProperty("load.max-p99", "PT1S"));
+
+        LoadReport report = harness.run(scenarios());
+
+        Path file = Path.of("target/load/GreetingLoadTest.txt");
+        report.write(file);
+        LOG.infof("Load report written to %s%n%s", file, report);
+        SoftAssertions softly = new SoftAssertions();
+        for (LoadReport.Result result : report.results()) {
+            softly.assertThat(result.unexpected()).as("%s unexpected responses, first %s", result.name(), result.firstUnexpected()).isZero();
+            softly.assertThat(result.throughput()).as("%s req/s", result.name()).isGreaterThan(0.9 * result.targetRate());
+            softly.assertThat(result.latency(99)).as("%s p99", result.name()).isLessThanOrEqualTo(maxP99);
+        }
+        softly.assertAll();
+        assertThat(report.results()).isNotEmpty();
+    }
+
+    static List<LoadScenario> scenarios() {
+        List<LoadScenario> scenarios = new ArrayList<>();
+        for (String prefix : List.of("", "/jakartars")) {
+            String stack = prefix.isEmpty() ? "spring " : "jakarta ";
+            String validated = prefix.isEmpty() ? VALIDATED : JAKARTA_VALIDATED;
+            scenarios.add(new LoadScenario(stack + "hello", 200,
+                    given -> given.queryParam("name", "load").get(prefix + "/greeting")));
+            scenarios.add(new LoadScenario(stack + "hello without name", 200,
+                    given -> given.get(prefix + "/greeting")));
+            scenarios.add(new LoadScenario(stack + "validated", 200,
+                    given -> given.accept("application/json").queryParam("title", Title.SIGNORA)
+                            .queryParam("name", "--query-name--").queryParam("suffix", "--query-suffix--").get(validated)));
+            scenarios.add(new LoadScenario(stack + "validated without params", 400,
+                    given -> given.accept("application/json").get(validated)));
+            scenarios.add(new LoadScenario(stack + "validated with unknown title", 400,
+                    given -> given.accept("application/json").queryParam("title", "DR")
+                            .queryParam("name", "--query-name--").get(validated)));
+            scenarios.add(new LoadScenario(stack + "body on GET", 200,
+                    given -> given.contentType("application/json").accept("application/json").body(param())
+                            .get(prefix + "/echo-param")));
+            scenarios.add(new LoadScenario(stack + "no body on GET", 204,
+                    given -> given.contentType("application/json").accept("application/json").get(prefix + "/echo-param")));
+            scenarios.add(new LoadScenario(stack + "body on GET without content type", 415,
+                    given -> given.accept("application/json").get(prefix + "/echo-param")));
+        }
+        return scenarios;
+    }
+
+    private static HelloParam param() {
+        var param = new HelloParam();
+        param.setTitle(Title.MR);
+        param.setName("bean");
+        param.setSuffix("whatever");
+        return param;
+    }
+}
@@ -0,0 +1,142 @@
+package org.acme.spring.web.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays {@link LoadScenario}s concurrently at a fixed rate against the application under test, e.g. from a
+ * {@code @QuarkusTest}, round robin so that every scenario gets the same share of the rate.
+ * <p>
+ * The rate is an open model: requests are sent when they are due, whether the previous ones have been answered or
+ * not, each on a virtual thread, up to {@code maxConcurrency} at once over keep-alive HTTP/1.1 connections. Requests
+ * of the warmup are sent the same way but not reported.
+ */
+public final class LoadHarness {
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxConcurrency;
+
+    /**
+     * @param rate requests per second over all scenarios
+     */
+    public LoadHarness(double rate, Duration warmup, Duration duration, int maxConcurrency) {
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Reads the rate as {@code load.rate} in requests per second, the durations as {@code load.warmup} and
+     * {@code load.duration} in ISO-8601 or seconds and the concurrency as {@code load.max-concurrency} from the system
+     * properties, e.g. {@code -Dload.rate=500}, falling back to the given defaults.
+     */
+    public static LoadHarness fromSystemProperties(double rate, Duration warmup, Duration duration, int maxConcurrency) {
+        return new LoadHarness(Double.parseDouble(System.getProperty("load.rate", Double.toString(rate))),
+                duration("load.warmup", warmup), duration("load.duration", duration),
+                Integer.getInteger("load.max-concurrency", maxConcurrency));
+    }
+
+    public LoadReport run(List<LoadScenario> scenarios) throws InterruptedException {
+        HttpRequest[] requests = new HttpRequest[scenarios.size()];
+        Recorder[] recorders = new Recorder[scenarios.size()];
+        for (int i = 0; i < recorders.length; i++) {
+            requests[i] = scenarios.get(i).capture();
+            recorders[i] = new Recorder();
+        }
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        Semaphore slots = new Semaphore(maxConcurrency);
+        // closed last, once the threads have sent everything
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+                ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0, due = start; due < end; i++, due = start + i * interval) {
+                LockSupport.parkNanos(due - System.nanoTime());
+                slots.acquire();
+                int scenario = (int) (i % scenarios.size());
+                Recorder recorder = due >= measureFrom ? recorders[scenario] : null;
+                long sent = due;
+                threads.execute(() -> {
+                    try {
+                        send(client, requests[scenario], scenarios.get(scenario).expectedStatus(), sent, recorder);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(Math.max(1, System.nanoTime() - measureFrom));
+        List<LoadReport.Result> results = new ArrayList<>();
+        for (int i = 0; i < recorders.length; i++) {
+            results.add(recorders[i].result(scenarios.get(i).name(), rate / scenarios.size(), elapsed));
+        }
+        return new LoadReport(rate, duration, results);
+    }
+
+    private static void send(HttpClient client, HttpRequest request, int expectedStatus, long due, Recorder recorder) {
+        String unexpected;
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            unexpected = status == expectedStatus ? null : "status " + status;
+        } catch (IOException e) {
+            unexpected = e.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (recorder != null) {
+            recorder.record(System.nanoTime() - due, unexpected);
+        }
+    }
+
+    private static Duration duration(String property, Duration defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value.startsWith("P") ? Duration.parse(value) : Duration.ofMillis((long) (Double.parseDouble(value) * 1000));
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long unexpected;
+        private String firstUnexpected;
+
+        /**
+         * @param unexpected the status or failure that was not expected, {@code null} if none
+         */
+        synchronized void record(long latency, String unexpected) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, 2 * count);
+            }
+            latencies[count++] = latency;
+            if (unexpected != null) {
+                this.unexpected++;
+                if (firstUnexpected == null) {
+                    firstUnexpected = unexpected;
+                }
+            }
+        }
+
+        synchronized LoadReport.Result result(String name, double targetRate, Duration elapsed) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new LoadReport.Result(name, targetRate, count, unexpected, firstUnexpected, elapsed, sorted);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.acme.spring.web.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Latency and throughput per {@link LoadScenario} of one {@link LoadHarness} run. Latencies are measured from the
+ * moment the request was due, so a client falling behind its rate shows up as latency instead of hiding it.
+ */
+public record LoadReport(double targetRate, Duration duration, List<Result> results) {
+
+    /**
+     * @param firstUnexpected the first unexpected status or failure of the scenario, {@code null} if none
+     */
+    public record Result(String name, double targetRate, long requests, long unexpected, String firstUnexpected,
+            Duration elapsed, long[] sortedLatencies) {
+
+        public double throughput() {
+            return requests / (elapsed.toNanos() / 1e9);
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         */
+        public Duration latency(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return Duration.ZERO;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return Duration.ofNanos(sortedLatencies[Math.max(0, Math.min(sortedLatencies.length - 1, index))]);
+        }
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, toString());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("%.0f req/s over %ds%n".formatted(targetRate, duration.toSeconds()));
+        report.append("%-45s %8s %8s %10s %9s %9s %9s %9s%n".formatted("scenario", "requests", "unexpect", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Result result : results) {
+            report.append("%-45s %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n".formatted(result.name(), result.requests(),
+                    result.unexpected(), result.throughput(), millis(result.latency(50)), millis(result.latency(90)),
+                    millis(result.latency(99)), millis(result.latency(100))));
+        }
+        for (Result result : results) {
+            if (result.firstUnexpected() != null) {
+                report.append("%s: first unexpected %s%n".formatted(result.name(), result.firstUnexpected()));
+            }
+        }
+        return report.toString();
+    }
+
+    private static double millis(Duration latency) {
+        return latency.toNanos() / 1e6;
+    }
+}
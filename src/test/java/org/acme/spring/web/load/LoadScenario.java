@@ -0,0 +1,54 @@
+package org.acme.spring.web.load;
+
+import static io.restassured.RestAssured.given;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * One request of the functional tests, replayed by {@link LoadHarness}: {@code request} sends it from a fresh
+ * {@code given()}, any status but {@code expectedStatus} counts as unexpected.
+ * <p>
+ * RestAssured itself is far too slow to generate load, so the request is sent through it once, captured by a filter
+ * instead of reaching the application, and replayed with the JDK's {@link java.net.http.HttpClient}.
+ */
+public record LoadScenario(String name, int expectedStatus, Function<RequestSpecification, Response> request) {
+    /**
+     * Managed by the JDK client, which rejects them.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    HttpRequest capture() {
+        HttpRequest[] captured = new HttpRequest[1];
+        request.apply(given().filter((requestSpec, responseSpec, context) -> {
+            captured[0] = toHttpRequest(requestSpec);
+            return new ResponseBuilder().setStatusCode(expectedStatus).build();
+        }));
+        return captured[0];
+    }
+
+    private static HttpRequest toHttpRequest(FilterableRequestSpecification spec) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(spec.getURI()));
+        for (Header header : spec.getHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase())) {
+                request.header(header.getName(), header.getValue());
+            }
+        }
+        Object body = spec.getBody();
+        HttpRequest.BodyPublisher publisher = switch (body) {
+            case null -> HttpRequest.BodyPublishers.noBody();
+            case byte[] bytes -> HttpRequest.BodyPublishers.ofByteArray(bytes);
+            default -> HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8);
+        };
+        return request.method(spec.getMethod(), publisher).build();
+    }
+}
@@ -0,0 +1,119 @@
+package org.acme.spring.web.metrics;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(EndpointMetricsTest.Enabled.class)
+class EndpointMetricsTest {
+    @Inject
+    MeterRegistry registry;
+
+    public static class Enabled implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            // invalid requests have to reach Hibernate Validator to time its phase
+            return Map.of("endpoint.metrics.enabled", "true", "pre-validation.enabled", "false");
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "/greeting, GreetingController.hello", "/jakartars/greeting, GreetingResource.hello" })
+    void timesEveryPhaseButValidationOfUnvalidatedEndpoint(String uri, String endpoint) throws InterruptedException {
+        long requests = requests(endpoint);
+
+        given().queryParam("name", "timed").get(uri).then().statusCode(200);
+
+        assertThat(completed(() -> requests(endpoint), requests + 1)).isEqualTo(requests + 1);
+        assertThat(phase(endpoint, "bind")).isEqualTo(requests + 1);
+        assertThat(phase(endpoint, "validate")).isZero();
+        assertThat(phase(endpoint, "invoke")).isEqualTo(requests + 1);
+        assertThat(phase(endpoint, "serialize")).isEqualTo(requests + 1);
+        assertThat(registry.get("endpoint.requests").tag("endpoint", endpoint).timer().totalTime(TimeUnit.NANOSECONDS))
+                .isGreaterThanOrEqualTo(registry.get("endpoint.phase").tag("endpoint", endpoint).tag("phase", "invoke").timer()
+                        .totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "/echo-param-cheated-with-query-param-with-validations, GreetingController.helloWithCheatedParamValidated",
+            "/jakartars/echo-param-with-query-param-with-validations, GreetingResource.helloWithCheatedParamValidated" })
+    void timesValidationOfValidatedEndpoint(String uri, String endpoint) throws InterruptedException {
+        long validations = phase(endpoint, "validate");
+        long invocations = phase(endpoint, "invoke");
+
+        given().queryParam("title", "MR").queryParam("name", "valid").get(uri).then().statusCode(200);
+        given().queryParam("name", "").get(uri).then().statusCode(400);
+
+        assertThat(completed(() -> phase(endpoint, "serialize"), validations + 2)).isEqualTo(validations + 2);
+        assertThat(phase(endpoint, "validate")).isEqualTo(validations + 2);
+        assertThat(phase(endpoint, "invoke")).as("the invalid request is not invoked").isEqualTo(invocations + 1);
+    }
+
+    @Test
+    void countsAllocatedBytes() throws InterruptedException {
+        DistributionSummary allocated = registry.find("endpoint.allocated").tag("endpoint", "GreetingController.hello").summary();
+        long requests = allocated == null ? 0 : allocated.count();
+
+        given().queryParam("name", "allocating").get("/greeting").then().statusCode(200);
+
+        DistributionSummary summary = registry.get("endpoint.allocated").tag("endpoint", "GreetingController.hello").summary();
+        assertThat(completed(summary::count, requests + 1)).isEqualTo(requests + 1);
+        assertThat(summary.max()).isPositive();
+    }
+
+    @Test
+    void timesStreamedResponseUntilItHasEnded() throws InterruptedException {
+        given().contentType("application/json").body("[\"a\", \"b\"]").post("/greeting/batch").then().statusCode(200);
+
+        assertThat(completed(() -> requests("GreetingBodyController.helloBatch"), 1)).isPositive();
+        assertThat(phase("GreetingBodyController.helloBatch", "serialize")).isPositive();
+    }
+
+    @Test
+    void publishesHistogramsAndPercentiles() {
+        given().get("/greeting").then().statusCode(200);
+
+        given().get("/q/metrics").then().statusCode(200)
+                .body(containsString("endpoint_requests_seconds_bucket{endpoint=\"GreetingController.hello\""))
+                .body(containsString("endpoint_phase_seconds{endpoint=\"GreetingController.hello\",phase=\"invoke\",quantile=\"0.99\"}"))
+                .body(containsString("endpoint_allocated_bytes_count{endpoint=\"GreetingController.hello\"}"));
+    }
+
+    /**
+     * The client may have the whole response before the server has noticed that it has ended and recorded the request.
+     */
+    private static long completed(LongSupplier count, long expected) throws InterruptedException {
+        for (int i = 0; i < 50 && count.getAsLong() < expected; i++) {
+            Thread.sleep(20);
+        }
+        return count.getAsLong();
+    }
+
+    private long requests(String endpoint) {
+        Timer timer = registry.find("endpoint.requests").tag("endpoint", endpoint).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private long phase(String endpoint, String phase) {
+        Timer timer = registry.find("endpoint.phase").tag("endpoint", endpoint).tag("phase", phase).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
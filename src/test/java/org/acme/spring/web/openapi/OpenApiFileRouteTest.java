@@ -0,0 +1,116 @@
+package org.acme.spring.web.openapi;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+
+@QuarkusTest
+@TestProfile(OpenApiFileRouteTest.Enabled.class)
+class OpenApiFileRouteTest {
+    private static final RestAssuredConfig IDENTITY = RestAssuredConfig.config()
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+    public static class Enabled implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("openapi.files.enabled", "true");
+        }
+    }
+
+    @Test
+    void servesBuildTimeDocument() throws Exception {
+        String json = given().config(IDENTITY).get("/q/openapi.yaml.json").then().statusCode(200)
+                .contentType("application/json;charset=UTF-8")
+                .header("Content-Encoding", nullValue())
+                .extract().asString();
+
+        // the stored schema additionally lists the dev mode servers
+        JsonNode served = new ObjectMapper().readTree(json);
+        JsonNode stored = new ObjectMapper().readTree(Files.readString(Path.of("target/definitions/openapi.json")));
+        assertThat(served.get("paths")).isEqualTo(stored.get("paths"));
+        assertThat(served.get("components")).isEqualTo(stored.get("components"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/q/openapi.yaml", "/q/openapi.yaml.json" })
+    void servesSameDocumentCompressed(String uri) {
+        String identity = given().config(IDENTITY).get(uri).then().statusCode(200).extract().asString();
+
+        // decompressed by RestAssured, which asks for gzip by default
+        given().get(uri).then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept, Accept-Encoding")
+                .body(equalTo(identity));
+    }
+
+    @Test
+    void choosesFormatLikeQuarkus() {
+        given().config(IDENTITY).get("/q/openapi.yaml").then().statusCode(200)
+                .contentType("application/yaml;charset=UTF-8").body(startsWith("---\nopenapi:"));
+        given().config(IDENTITY).get("/q/openapi.yaml.yml").then().statusCode(200)
+                .contentType("application/yaml;charset=UTF-8");
+        given().config(IDENTITY).header("Accept", "application/json").get("/q/openapi.yaml").then().statusCode(200)
+                .contentType("application/yaml;charset=UTF-8");
+    }
+
+    @Test
+    void tagsEachRepresentationDifferently() {
+        String identity = given().config(IDENTITY).get("/q/openapi.yaml").then().extract().header("ETag");
+        String gzip = given().config(IDENTITY).header("Accept-Encoding", "gzip").get("/q/openapi.yaml").then().extract().header("ETag");
+        String json = given().config(IDENTITY).get("/q/openapi.yaml.json").then().extract().header("ETag");
+
+        assertThat(identity).startsWith("\"").isNotEqualTo(gzip).isNotEqualTo(json);
+        assertThat(gzip).isNotEqualTo(json);
+    }
+
+    @Test
+    void answersNotModified() {
+        String etag = given().get("/q/openapi.yaml").then().statusCode(200).extract().header("ETag");
+
+        given().header("If-None-Match", etag).get("/q/openapi.yaml").then()
+                .statusCode(304).header("ETag", etag).body(emptyString());
+        given().config(IDENTITY).header("If-None-Match", etag).get("/q/openapi.yaml").then()
+                .statusCode(200);
+    }
+
+    @Test
+    void answersHeadWithoutBody() {
+        String length = given().config(IDENTITY).header("Accept-Encoding", "gzip").get("/q/openapi.yaml").then()
+                .extract().header("Content-Length");
+
+        given().config(IDENTITY).header("Accept-Encoding", "gzip").head("/q/openapi.yaml").then().statusCode(200)
+                .header("Content-Encoding", "gzip").header("Content-Length", length);
+    }
+
+    @Test
+    void acceptsGzipUnlessRejected() {
+        assertThat(OpenApiFileRoute.acceptsGzip(null)).isFalse();
+        assertThat(OpenApiFileRoute.acceptsGzip("identity")).isFalse();
+        assertThat(OpenApiFileRoute.acceptsGzip("br, deflate")).isFalse();
+        assertThat(OpenApiFileRoute.acceptsGzip("gzip")).isTrue();
+        assertThat(OpenApiFileRoute.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(OpenApiFileRoute.acceptsGzip("*")).isTrue();
+        assertThat(OpenApiFileRoute.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(OpenApiFileRoute.acceptsGzip("gzip; q=0.000, *")).isTrue();
+    }
+}
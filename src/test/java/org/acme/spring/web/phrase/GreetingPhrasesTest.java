@@ -0,0 +1,191 @@
+package org.acme.spring.web.phrase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.acme.spring.web.entity.Greeting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class GreetingPhrasesTest {
+    private static final ObjectMapper JACKSON = new ObjectMapper();
+
+    @Test
+    void greetsKnownNamesWithSameInstance() {
+        GreetingPhrases phrases = new GreetingPhrases(List.of("Alice", "Bob"), 0);
+
+        Greeting alice = phrases.greet("Alice");
+
+        assertThat(alice).isEqualTo(new Greeting("hello Alice"));
+        assertThat(phrases.greet("Alice")).isSameAs(alice);
+        assertThat(phrases.json(alice)).isEqualTo("{\"phrase\":\"hello Alice\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void greetsAbsentName() {
+        GreetingPhrases phrases = new GreetingPhrases(List.of(), 0);
+
+        assertThat(phrases.greet(null)).isEqualTo(new Greeting("hello ?????")).isSameAs(phrases.greet(null));
+        assertThat(phrases.json(phrases.greet(null))).isNotNull();
+        assertThat(phrases.greet("")).isEqualTo(new Greeting("hello "));
+    }
+
+    @Test
+    void rendersUnknownNamesWithoutHotSet() {
+        GreetingPhrases phrases = new GreetingPhrases(List.of(), 0);
+
+        Greeting carol = phrases.greet("Carol");
+
+        assertThat(carol).isEqualTo(new Greeting("hello Carol")).isNotSameAs(phrases.greet("Carol"));
+        assertThat(phrases.json(carol)).isNull();
+    }
+
+    @Test
+    void learnsNamesRequestedAgain() {
+        GreetingPhrases phrases = new GreetingPhrases(List.of(), 16);
+
+        Greeting first = phrases.greet("Carol");
+        Greeting carol = phrases.greet("Carol");
+
+        assertThat(carol).isEqualTo(first).isNotSameAs(first);
+        assertThat(phrases.greet("Carol")).isSameAs(carol);
+        assertThat(phrases.json(new Greeting("hello Carol"))).isSameAs(phrases.phrase("Carol").json());
+    }
+
+    @Test
+    void doesNotLearnNamesRequestedOnce() {
+        GreetingPhrases phrases = new GreetingPhrases(List.of(), 16);
+
+        for (int i = 0; i < 100; i++) {
+            phrases.greet("visitor-" + i);
+        }
+
+        assertThat(phrases.json(new Greeting("hello visitor-99"))).isNull();
+        assertThat(phrases.json(new Greeting("hello visitor-0"))).isNull();
+    }
+
+    @Test
+    void neverLearnsLongNames() {
+        GreetingPhrases phrases = new GreetingPhrases(List.of(), 16);
+        String name = "x".repeat(GreetingPhrases.MAX_HOT_NAME_LENGTH + 1);
+
+        Greeting greeting = phrases.greet(name);
+
+        assertThat(phrases.greet(name)).isEqualTo(greeting).isNotSameAs(greeting);
+        assertThat(phrases.json(greeting)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "Alice", "\"quoted\"", "back\\slash", "tab\tnew\nline", "ünïcödé 👋", "\u0000\u001f" })
+    void rendersSameDocumentAsJackson(String name) throws IOException {
+        Phrase phrase = Phrase.render(name);
+
+        assertThat(phrase.json()).isEqualTo(JACKSON.writeValueAsBytes(phrase.greeting()));
+    }
+
+    @Test
+    void readsNamesFromFile(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("names.txt"), "# top names\nAlice\n\n  \nBob\r\nZoë\n");
+
+        GreetingPhrases phrases = new GreetingPhrases(config(file, 0), new SimpleMeterRegistry());
+
+        for (String name : List.of("Alice", "Bob", "Zoë")) {
+            assertThat(phrases.greet(name)).isSameAs(phrases.greet(name)).isEqualTo(new Greeting("hello " + name));
+        }
+        assertThat(phrases.greet("# top names")).isNotSameAs(phrases.greet("# top names"));
+    }
+
+    @Test
+    void failsOnMissingFile(@TempDir Path directory) {
+        assertThatThrownBy(() -> new GreetingPhrases(config(directory.resolve("missing.txt"), 0), new SimpleMeterRegistry()))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void greetsWithStoredPhrasesBeforeTemplate(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("phrases.store");
+        try (PhraseStoreWriter writer = new PhraseStoreWriter(file, 2)) {
+            writer.add("Amélie", "bonjour Amélie");
+            writer.add("Alice", "hi Alice");
+        }
+        GreetingPhrases phrases = new GreetingPhrases(config(null, file, 0), new SimpleMeterRegistry());
+
+        assertThat(phrases.greet("Amélie")).isEqualTo(new Greeting("bonjour Amélie"));
+        assertThat(phrases.greet("Carol")).isEqualTo(new Greeting("hello Carol"));
+    }
+
+    @Test
+    void prefersListedNamesAndLearnsStoredPhrases(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("phrases.store");
+        try (PhraseStoreWriter writer = new PhraseStoreWriter(file, 2)) {
+            writer.add("Alice", "hi Alice");
+            writer.add("Amélie", "bonjour Amélie");
+        }
+        GreetingPhrases phrases = new GreetingPhrases(List.of("Alice"), Optional.of(PhraseStore.open(file)), 16);
+
+        phrases.greet("Amélie");
+        Greeting amelie = phrases.greet("Amélie");
+
+        assertThat(phrases.greet("Alice")).isEqualTo(new Greeting("hello Alice"));
+        assertThat(phrases.greet("Amélie")).isSameAs(amelie);
+        assertThat(phrases.json(amelie)).isEqualTo("{\"phrase\":\"bonjour Amélie\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void failsOnInvalidStore(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("names.txt"), "Alice\nBob\nCarol\nDave\n");
+
+        assertThatThrownBy(() -> new GreetingPhrases(config(null, file, 0), new SimpleMeterRegistry()))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void publishesHotSetMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GreetingPhrases phrases = new GreetingPhrases(config(null, 16), registry);
+
+        phrases.greet("Carol");
+        phrases.greet("Carol");
+        phrases.greet("Carol");
+
+        assertThat(registry.get("cache.gets").tag("cache", "greeting-phrases").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    private static GreetingPhrasesConfig config(Path file, long hotSetSize) {
+        return config(file, null, hotSetSize);
+    }
+
+    private static GreetingPhrasesConfig config(Path file, Path store, long hotSetSize) {
+        return new GreetingPhrasesConfig() {
+            @Override
+            public Optional<Path> file() {
+                return Optional.ofNullable(file);
+            }
+
+            @Override
+            public Optional<Path> store() {
+                return Optional.ofNullable(store);
+            }
+
+            @Override
+            public long hotSetSize() {
+                return hotSetSize;
+            }
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package org.acme.spring.web.phrase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PhraseStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void findsEveryName() throws IOException {
+        Path file = directory.resolve("phrases.store");
+        try (PhraseStoreWriter writer = new PhraseStoreWriter(file, 10_000)) {
+            for (int i = 0; i < 10_000; i++) {
+                writer.add("name-" + i, "hello number " + i);
+            }
+        }
+
+        PhraseStore store = PhraseStore.open(file);
+
+        assertThat(store.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(store.phrase(store.find("name-" + i))).isEqualTo("hello number " + i);
+        }
+        assertThat(store.find("name-10000")).isEqualTo(-1);
+        assertThat(store.find("name-")).isEqualTo(-1);
+        assertThat(store.find("")).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "Zoë", "名前", "👋 wave", "lone \uD83D surrogate", "lone \uDC4B low", "x" })
+    void findsNamesInAnyScript(String name) throws IOException {
+        PhraseStore store = write(name, "found");
+
+        assertThat(store.phrase(store.find(name))).isEqualTo("found");
+        // encoded the way the JDK does, a lone surrogate is stored as '?'
+        assertThat(PhraseStore.utf8(name)).isEqualTo(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void missesNamesSharingPrefixOrEncoding() throws IOException {
+        PhraseStore store = write("Zoë", "bonjour Zoë");
+
+        assertThat(store.find("Zo")).isEqualTo(-1);
+        assertThat(store.find("Zoë!")).isEqualTo(-1);
+        assertThat(store.find("Zoe")).isEqualTo(-1);
+        assertThat(store.find(new StringBuilder("Zoë"))).isNotEqualTo(-1);
+    }
+
+    @Test
+    void answersFirstPhraseOfDuplicateName() throws IOException {
+        Path file = directory.resolve("phrases.store");
+        try (PhraseStoreWriter writer = new PhraseStoreWriter(file, 2)) {
+            writer.add("Alice", "first");
+            writer.add("Alice", "second");
+        }
+
+        PhraseStore store = PhraseStore.open(file);
+
+        assertThat(store.phrase(store.find("Alice"))).isEqualTo("first");
+    }
+
+    @Test
+    void findsNothingInEmptyStore() throws IOException {
+        Path file = directory.resolve("phrases.store");
+        new PhraseStoreWriter(file, 0).close();
+
+        assertThat(PhraseStore.open(file).find("Alice")).isEqualTo(-1);
+    }
+
+    @Test
+    void findsWithoutAllocating() throws IOException {
+        PhraseStore store = write("Alice", "hi Alice");
+        String hit = "Alice";
+        String miss = "Bob";
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long found = 0;
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            found += store.find(hit) + store.find(miss);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(found).isPositive();
+        // less than a byte per lookup, whatever reading the counter allocates
+        assertThat(allocated).isLessThan(10_000);
+    }
+
+    @Test
+    void rejectsMoreNamesThanCapacity() throws IOException {
+        try (PhraseStoreWriter writer = new PhraseStoreWriter(directory.resolve("phrases.store"), 1)) {
+            writer.add("Alice", "hi Alice");
+
+            assertThatThrownBy(() -> writer.add("Bob", "hi Bob")).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void rejectsNameLongerThanLengthField() throws IOException {
+        try (PhraseStoreWriter writer = new PhraseStoreWriter(directory.resolve("phrases.store"), 1)) {
+            assertThatThrownBy(() -> writer.add("x".repeat(PhraseStore.MAX_LENGTH + 1), "hi"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = Files.writeString(directory.resolve("names.txt"), "Alice\nBob\nCarol\nDave\n");
+
+        assertThatThrownBy(() -> PhraseStore.open(file)).isInstanceOf(IOException.class).hasMessageContaining("not a phrase store");
+    }
+
+    @Test
+    void writesStoreFromTabSeparatedFile() throws IOException {
+        Path input = Files.writeString(directory.resolve("phrases.tsv"), "# name, tab, phrase\nAlice\thi Alice\n\nZoë\tsalut\tZoë\n");
+        Path file = directory.resolve("phrases.store");
+
+        PhraseStoreWriter.main(new String[] { input.toString(), file.toString() });
+
+        PhraseStore store = PhraseStore.open(file);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.phrase(store.find("Alice"))).isEqualTo("hi Alice");
+        assertThat(store.phrase(store.find("Zoë"))).isEqualTo("salut\tZoë");
+    }
+
+    @Test
+    void rejectsLineWithoutPhrase() throws IOException {
+        Path input = Files.writeString(directory.resolve("phrases.tsv"), "Alice\thi Alice\nBob\n");
+
+        assertThatThrownBy(() -> PhraseStoreWriter.main(new String[] { input.toString(), directory.resolve("store").toString() }))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining(":2");
+    }
+
+    private PhraseStore write(String name, String phrase) throws IOException {
+        Path file = directory.resolve("phrases.store");
+        try (PhraseStoreWriter writer = new PhraseStoreWriter(file, 1)) {
+            writer.add(name, phrase);
+        }
+        return PhraseStore.open(file);
+    }
+}
@@ -0,0 +1,152 @@
+package org.acme.spring.web.profiling;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.acme.spring.web.metrics.EndpointRequestEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@QuarkusTest
+@TestProfile(ProfilingTest.Enabled.class)
+class ProfilingTest {
+    private static final String VALIDATED = "/echo-param-cheated-with-query-param-with-validations?title=MR&name=profiled";
+
+    @Inject
+    MeterRegistry registry;
+
+    public static class Enabled implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            // the endpoint metrics stay disabled, the events do not depend on them
+            return Map.of("profiling.enabled", "true", "profiling.max-duration", "1m", "profiling.sampling-period", "10ms");
+        }
+    }
+
+    @AfterEach
+    void stop() {
+        given().post("/q/profiling/stop");
+    }
+
+    @Test
+    void recordsRequestsWithTheirPhases() throws IOException {
+        given().post("/q/profiling/start").then().statusCode(204);
+        for (int i = 0; i < 3; i++) {
+            given().queryParam("name", "profiled").get("/greeting").then().statusCode(200);
+            given().get("/jakartars" + VALIDATED.replace("-cheated", "")).then().statusCode(200);
+        }
+
+        List<RecordedEvent> events = requests(stopAsJfr());
+
+        assertThat(events).filteredOn(event -> event.getString("endpoint").equals("GreetingController.hello")).hasSize(3)
+                .allSatisfy(event -> {
+                    assertThat(event.getDuration("invoke")).isPositive();
+                    assertThat(event.getDuration("validate")).isZero();
+                    assertThat(event.getDuration()).isGreaterThanOrEqualTo(event.getDuration("invoke"));
+                    assertThat(event.getLong("allocated")).isPositive();
+                });
+        assertThat(events).filteredOn(event -> event.getString("endpoint").equals("GreetingResource.helloWithCheatedParamValidated"))
+                .hasSize(3).allSatisfy(event -> assertThat(event.getDuration("validate")).isPositive());
+        assertThat(registry.find("endpoint.requests").timer()).isNull();
+    }
+
+    @Test
+    void recordsNothingOutsideRecording() throws IOException {
+        given().get(VALIDATED).then().statusCode(200);
+        given().post("/q/profiling/start").then().statusCode(204);
+
+        assertThat(requests(stopAsJfr())).isEmpty();
+    }
+
+    @Test
+    void collapsesExecutionSamples() throws InterruptedException {
+        given().post("/q/profiling/start").then().statusCode(204);
+        // the stacks of this thread are deep enough to be truncated, those of a thread of its own are complete
+        Thread busy = Thread.ofPlatform().start(ProfilingTest::spin);
+        long end = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (System.nanoTime() < end) {
+            given().get(VALIDATED).then().statusCode(200);
+        }
+        busy.join();
+
+        String stacks = given().queryParam("format", "collapsed").post("/q/profiling/stop").then().statusCode(200)
+                .contentType(containsString("text/plain")).extract().asString();
+
+        assertThat(stacks.lines()).isNotEmpty().allMatch(line -> line.matches("\\S+(;\\S+)* [1-9][0-9]*"));
+        assertThat(stacks).containsPattern("(?m)^java\\.lang\\.Thread\\.run(With)?;.*org\\.acme\\.spring\\.web\\.profiling\\.ProfilingTest\\.spin[; ]");
+    }
+
+    private static void spin() {
+        long end = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void keepsRecordingThatStoppedByItself() throws InterruptedException {
+        given().queryParam("duration", "100ms").post("/q/profiling/start").then().statusCode(204);
+        Thread.sleep(500);
+
+        // a new recording may start, replacing it
+        given().queryParam("duration", "100ms").post("/q/profiling/start").then().statusCode(204);
+        Thread.sleep(500);
+
+        assertThat(stopAsJfr()).isNotEmpty();
+    }
+
+    @Test
+    void rejectsRequestsOutOfTurn() {
+        given().post("/q/profiling/stop").then().statusCode(409);
+        given().post("/q/profiling/start").then().statusCode(204);
+        given().post("/q/profiling/start").then().statusCode(409);
+        given().queryParam("format", "svg").post("/q/profiling/stop").then().statusCode(400);
+        // still running
+        given().post("/q/profiling/stop").then().statusCode(200);
+        given().queryParam("duration", "soon").post("/q/profiling/start").then().statusCode(400);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0s", "PT0S", "-5s" })
+    void rejectsDurationsThatAreNotPositive(String duration) {
+        given().queryParam("duration", duration).post("/q/profiling/start").then().statusCode(400)
+                .body(equalTo("invalid duration: " + duration));
+        given().post("/q/profiling/stop").then().statusCode(409);
+    }
+
+    private static byte[] stopAsJfr() {
+        return given().post("/q/profiling/stop").then().statusCode(200).contentType("application/octet-stream").extract()
+                .asByteArray();
+    }
+
+    private static List<RecordedEvent> requests(byte[] recording) throws IOException {
+        Path file = Files.write(Files.createTempFile("profile", ".jfr"), recording);
+        try {
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(EndpointRequestEvent.NAME))
+                    .toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
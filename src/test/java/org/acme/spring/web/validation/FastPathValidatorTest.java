@@ -0,0 +1,104 @@
+package org.acme.spring.web.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+
+import org.acme.spring.web.GreetingController;
+import org.acme.spring.web.GreetingResource;
+import org.acme.spring.web.entity.HelloParam;
+import org.acme.spring.web.entity.HelloParamCheatedWithQueryParam;
+import org.acme.spring.web.entity.Title;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class FastPathValidatorTest {
+    @Inject
+    Validator validator;
+    @Inject
+    ValidatorFactory validatorFactory;
+
+    @Test
+    void replacesValidatorOfEndpointValidation() {
+        assertThat(validator).isInstanceOf(FastPathValidator.class);
+    }
+
+    @Test
+    void compilesPlansForConstraintsOfHelloParams() {
+        assertThat(ValidationPlan.of(HelloParam.class)).isPresent();
+        assertThat(ValidationPlan.of(HelloParamCheatedWithQueryParam.class)).isPresent();
+    }
+
+    @ParameterizedTest
+    @MethodSource("validatedEndpoints")
+    void compilesPlansForValidatedEndpoints(Method method, HelloParamCheatedWithQueryParam ignored) {
+        assertThat(ExecutablePlan.of(method)).isPresent();
+    }
+
+    @Test
+    void leavesUnknownConstraintsToHibernateValidator() {
+        assertThat(ValidationPlan.of(WithEmail.class)).isEmpty();
+        assertThat(ValidationPlan.of(List.class)).isEmpty();
+    }
+
+    static Stream<Arguments> validatedEndpoints() throws NoSuchMethodException {
+        List<Method> methods = List.of(
+                GreetingController.class.getMethod("helloWithCheatedParamValidated", HelloParamCheatedWithQueryParam.class),
+                GreetingController.class.getMethod("helloWithCheatedParamAnnotatedWithParamObjectValidated", HelloParamCheatedWithQueryParam.class),
+                GreetingResource.class.getMethod("helloWithCheatedParamValidated", HelloParamCheatedWithQueryParam.class));
+        List<HelloParamCheatedWithQueryParam> params = List.of(
+                param(null, null, null),
+                param(Title.MR, null, null),
+                param(Title.MR, "", "suffix"),
+                param(null, "name", null),
+                param(Title.SIGNORA, "name", null),
+                param(Title.SIR, "name", "suffix"));
+        return methods.stream().flatMap(method -> params.stream().map(param -> Arguments.of(method, param)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("validatedEndpoints")
+    void reportsSameViolationsAsHibernateValidator(Method method, HelloParamCheatedWithQueryParam param) {
+        Object[] parameters = { param };
+        Object target = new GreetingController();
+
+        var expected = validatorFactory.getValidator().forExecutables().validateParameters(target, method, parameters);
+        var actual = validator.forExecutables().validateParameters(target, method, parameters);
+
+        assertThat(pathsAndMessages(actual)).isEqualTo(pathsAndMessages(expected));
+    }
+
+    private static Map<String, Set<String>> pathsAndMessages(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().collect(Collectors.groupingBy(violation -> violation.getPropertyPath().toString(),
+                Collectors.mapping(ConstraintViolation::getMessage, Collectors.toSet())));
+    }
+
+    private static HelloParamCheatedWithQueryParam param(Title title, String name, String suffix) {
+        var param = new HelloParamCheatedWithQueryParam();
+        param.setTitle(title);
+        param.setName(name);
+        param.setSuffix(suffix);
+        return param;
+    }
+
+    static class WithEmail {
+        @Email
+        String mail;
+    }
+}
@@ -0,0 +1,147 @@
+package org.acme.spring.web.validation;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+
+import org.acme.spring.web.entity.UnknownTitleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+@QuarkusTest
+class PreValidationTest {
+    private static final String SPRING = "/echo-param-cheated-with-query-param-with-validations";
+    private static final String SPRING_PARAMETER_OBJECT = "/echo-param-at-parameter-object-cheated-with-query-param-with-validations";
+    private static final String JAKARTA = "/jakartars/echo-param-with-query-param-with-validations";
+    private static final String REACTIVE = "/jakartars/reactive/echo-param-with-query-param-with-validations";
+
+    @Inject
+    MeterRegistry registry;
+
+    static Stream<Arguments> routes() {
+        return Stream.of(
+                Arguments.of("GET", SPRING, "GreetingController.helloWithCheatedParamValidated"),
+                Arguments.of("POST", SPRING, "GreetingBodyController.helloWithCheatedParamValidatedPost"),
+                Arguments.of("GET", SPRING_PARAMETER_OBJECT, "GreetingController.helloWithCheatedParamAnnotatedWithParamObjectValidated"),
+                Arguments.of("GET", JAKARTA, "GreetingResource.helloWithCheatedParamValidated"),
+                Arguments.of("GET", REACTIVE, "ReactiveGreetingResource.helloWithCheatedParamValidated"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("routes")
+    void rejectsMissingParametersBeforeBinding(String method, String uri, String endpoint) {
+        String path = endpoint.substring(endpoint.indexOf('.') + 1) + ".helloParam.";
+        Map<String, List<Map<String, String>>> expected = Map.of(
+                "", List.of(violation(path + "title", "must not be null"), violation(path + "name", "must not be null"),
+                        violation(path + "name", "must not be empty")),
+                "?name=x", List.of(violation(path + "title", "must not be null")),
+                "?title=MR", List.of(violation(path + "name", "must not be null"), violation(path + "name", "must not be empty")),
+                "?title=MR&name=", List.of(violation(path + "name", "must not be empty")),
+                "?suffix=x&name", List.of(violation(path + "title", "must not be null"),
+                        violation(path + "name", "must not be empty")));
+
+        for (var query : expected.entrySet()) {
+            double rejected = rejected(endpoint);
+
+            Response response = request(method).accept("application/json").request(method, uri + query.getKey());
+
+            assertThat(response.statusCode()).as(query.getKey()).isEqualTo(400);
+            assertThat(response.contentType()).as(query.getKey()).isEqualTo("application/json");
+            assertThat(response.header("validation-exception")).as(query.getKey()).isEqualTo("true");
+            assertThat(response.jsonPath().getString("title")).isEqualTo("Constraint Violation");
+            assertThat(response.jsonPath().getInt("status")).isEqualTo(400);
+            assertThat(response.jsonPath().<Map<String, String>> getList("violations")).as(query.getKey())
+                    .containsExactlyInAnyOrderElementsOf(query.getValue());
+            assertThat(rejected(endpoint)).as(query.getKey()).isEqualTo(rejected + 1);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("routes")
+    void rejectsUnknownTitleBeforeBindingLikeBinding(String method, String uri, String endpoint) {
+        for (String query : List.of("?title=DR&name=x", "?title=%3Cscript%3E&name", "?title=&name=x")) {
+            double rejected = rejected(endpoint);
+
+            request(method).accept("application/json").request(method, uri + query).then().statusCode(400)
+                    .contentType(startsWith("text/plain")).body(equalTo(UnknownTitleException.MESSAGE));
+
+            assertThat(rejected(endpoint)).as(query).isEqualTo(rejected + 1);
+        }
+        // the same response from the binding
+        given().accept("application/json").header("Accept-Language", "en").get(uri + "?title=DR&name=x").then()
+                .statusCode(400).contentType(startsWith("text/plain")).body(equalTo(UnknownTitleException.MESSAGE));
+    }
+
+    @ParameterizedTest
+    @MethodSource("routes")
+    void passesValidParameters(String method, String uri, String endpoint) {
+        double rejected = rejected(endpoint);
+
+        request(method).accept("application/json").request(method, uri + "?title=M%52&name=%20").then().statusCode(200);
+
+        assertThat(rejected(endpoint)).isEqualTo(rejected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { SPRING, JAKARTA, REACTIVE })
+    void answersProblemJsonIfAccepted(String uri) {
+        given().accept("application/problem+json, application/json").get(uri + "?name=x").then().statusCode(400)
+                .contentType("application/problem+json").header("validation-exception", "true");
+    }
+
+    @Test
+    void leavesUndecidedQueriesToBinding() {
+        double rejected = rejected("GreetingResource.helloWithCheatedParamValidated");
+
+        given().urlEncodingEnabled(false).accept("application/json").get(JAKARTA + "?title=MR&n%61me=").then()
+                .statusCode(400).body("violations[0].message", equalTo("must not be empty"));
+
+        assertThat(rejected("GreetingResource.helloWithCheatedParamValidated")).isEqualTo(rejected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { SPRING, JAKARTA })
+    void leavesLocalizedMessagesToHibernateValidator(String uri) {
+        String endpoint = (uri.equals(SPRING) ? "GreetingController" : "GreetingResource") + ".helloWithCheatedParamValidated";
+        double rejected = rejected(endpoint);
+
+        given().accept("application/json").header("Accept-Language", "en").get(uri + "?name=x").then()
+                .statusCode(400).header("validation-exception", "true");
+
+        assertThat(rejected(endpoint)).isEqualTo(rejected);
+    }
+
+    /**
+     * Sends the queries as they are, escapes included.
+     */
+    private static RequestSpecification request(String method) {
+        RequestSpecification request = given().urlEncodingEnabled(false);
+        // the POST route takes a body besides the query parameters
+        return method.equals("POST") ? request.contentType("text/plain").body("body") : request;
+    }
+
+    private static Map<String, String> violation(String field, String message) {
+        return Map.of("field", field, "message", message);
+    }
+
+    private double rejected(String endpoint) {
+        Counter counter = registry.find("pre-validation.rejected").tag("endpoint", endpoint).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,58 @@
+package org.acme.spring.web.validation;
+
+import static org.acme.spring.web.validation.QueryViolations.NAME_EMPTY;
+import static org.acme.spring.web.validation.QueryViolations.NAME_NULL;
+import static org.acme.spring.web.validation.QueryViolations.TITLE_NULL;
+import static org.acme.spring.web.validation.QueryViolations.UNDECIDED;
+import static org.acme.spring.web.validation.QueryViolations.UNKNOWN_TITLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class QueryViolationsTest {
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of("title=MR&name=x", 0),
+                Arguments.of("name=x&suffix=&title=SIGNORA", 0),
+                Arguments.of("", TITLE_NULL | NAME_NULL),
+                Arguments.of("suffix=x", TITLE_NULL | NAME_NULL),
+                Arguments.of("title=MR", NAME_NULL),
+                Arguments.of("title=DR&name=x", UNKNOWN_TITLE),
+                Arguments.of("title=mr&name=x", UNKNOWN_TITLE),
+                Arguments.of("title=&name=x", UNKNOWN_TITLE),
+                Arguments.of("title&name=x", UNKNOWN_TITLE),
+                Arguments.of("title=M+R&name=x", UNKNOWN_TITLE),
+                Arguments.of("title=MR&name=", NAME_EMPTY),
+                Arguments.of("title=MR&name", NAME_EMPTY),
+                Arguments.of("title=DR&name", UNKNOWN_TITLE),
+                Arguments.of("&&title=MRS&&name=x&", 0),
+                Arguments.of("title=MR&name=x&name=", 0),
+                Arguments.of("title=MR&name=&name=x", NAME_EMPTY),
+                Arguments.of("title=DR&title=MR&name=x", UNKNOWN_TITLE),
+                Arguments.of("title=MR&title=DR&name=x", 0),
+                Arguments.of("titles=MR&nam=x", TITLE_NULL | NAME_NULL),
+                Arguments.of("name=%20&title=MR", 0),
+                Arguments.of("title=M%52&name=x", 0),
+                Arguments.of("title=%3Cscript%3E&name=x", UNKNOWN_TITLE),
+                Arguments.of("title=MR&name=x&suffix=%zz", UNDECIDED),
+                Arguments.of("title=MR&name=%", UNDECIDED),
+                Arguments.of("title=MR&n%61me=x", UNDECIDED));
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    void findsViolatedConstraints(String query, int violations) {
+        assertThat(QueryViolations.of(query)).isEqualTo(violations);
+    }
+
+    @Test
+    void treatsMissingQueryAsEmpty() {
+        assertThat(QueryViolations.of(null)).isEqualTo(TITLE_NULL | NAME_NULL);
+    }
+}